@@ -0,0 +1,80 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.fortress.alts.FortressAltIndex;
+import net.vulcandev.vulcanapi.fortress.data.FortressAltMatch;
+import net.vulcandev.vulcanapi.fortress.data.FortressPlayerSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link FortressAltIndex#findMatches} lookup with {@code sessions} synthetic players indexed. A third of
+ * the players report the vanilla brand and half have no mods, so the common postings are large and get skipped the
+ * way a real server's would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class AltIndexBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int sessions;
+
+    @Param({"false", "true"})
+    private boolean fuzzyMods;
+
+    private FortressAltIndex index;
+    private UUID[] players;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = FortressAltIndex.getInstance();
+        index.configure(5, 5000, sessions, fuzzyMods);
+
+        Random random = new Random(42L);
+        List<FortressPlayerSession> generated = new ArrayList<>(sessions);
+        players = new UUID[sessions];
+        for (int i = 0; i < sessions; i++) {
+            UUID uuid = new UUID(0L, i);
+            String ip = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+            String brand = i % 3 == 0 ? "vanilla" : "fabric";
+            String mods = i % 2 == 0 ? "" : "sodium,lithium,mod" + random.nextInt(100_000);
+            generated.add(new FortressPlayerSession(uuid, "Player" + i, "1.20.1", brand, false, false,
+                    random.nextInt(200), 0L, ip, mods));
+            players[i] = uuid;
+        }
+        index.addAll(generated);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.clear();
+    }
+
+    @Benchmark
+    public List<FortressAltMatch> findMatches() {
+        UUID player = players[next];
+        next = next + 1 == players.length ? 0 : next + 1;
+        return index.findMatches(player, 10);
+    }
+}
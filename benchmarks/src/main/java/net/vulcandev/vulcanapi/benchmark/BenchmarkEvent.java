@@ -0,0 +1,11 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+
+public class BenchmarkEvent extends VulcanEvent {
+
+    @Override
+    public boolean isCancellable() {
+        return false;
+    }
+}
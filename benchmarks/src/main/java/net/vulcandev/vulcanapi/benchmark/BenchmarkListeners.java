@@ -0,0 +1,106 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.event.EventHandler;
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.VulcanListener;
+
+/**
+ * One listener class per {@link EventPriority}, since the priority is fixed by the annotation.
+ * Every handler only bumps a counter so the suites measure the bus, not the handler.
+ */
+public final class BenchmarkListeners {
+
+    private BenchmarkListeners() {}
+
+    public static VulcanListener create(EventPriority priority) {
+        switch (priority) {
+            case LOWEST: return new LowestListener();
+            case LOW: return new LowListener();
+            case NORMAL: return new NormalListener();
+            case HIGH: return new HighListener();
+            case HIGHEST: return new HighestListener();
+            case MONITOR: return new MonitorListener();
+            default: throw new IllegalArgumentException("Unknown priority " + priority);
+        }
+    }
+
+    public abstract static class CountingListener implements VulcanListener {
+        protected long received;
+
+        public long getReceived() {
+            return received;
+        }
+    }
+
+    public static final class LowestListener extends CountingListener {
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onCancellableEvent(CancellableBenchmarkEvent event) {
+            received++;
+        }
+    }
+
+    public static final class LowListener extends CountingListener {
+        @EventHandler(priority = EventPriority.LOW)
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+
+        @EventHandler(priority = EventPriority.LOW)
+        public void onCancellableEvent(CancellableBenchmarkEvent event) {
+            received++;
+        }
+    }
+
+    public static final class NormalListener extends CountingListener {
+        @EventHandler(priority = EventPriority.NORMAL)
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+
+        @EventHandler(priority = EventPriority.NORMAL)
+        public void onCancellableEvent(CancellableBenchmarkEvent event) {
+            received++;
+        }
+    }
+
+    public static final class HighListener extends CountingListener {
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onCancellableEvent(CancellableBenchmarkEvent event) {
+            received++;
+        }
+    }
+
+    public static final class HighestListener extends CountingListener {
+        @EventHandler(priority = EventPriority.HIGHEST)
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+
+        @EventHandler(priority = EventPriority.HIGHEST)
+        public void onCancellableEvent(CancellableBenchmarkEvent event) {
+            received++;
+        }
+    }
+
+    public static final class MonitorListener extends CountingListener {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onCancellableEvent(CancellableBenchmarkEvent event) {
+            received++;
+        }
+    }
+}
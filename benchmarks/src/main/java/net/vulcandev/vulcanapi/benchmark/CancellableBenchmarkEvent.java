@@ -0,0 +1,12 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+
+public class CancellableBenchmarkEvent extends VulcanEvent implements Cancellable {
+
+    @Override
+    public boolean isCancellable() {
+        return true;
+    }
+}
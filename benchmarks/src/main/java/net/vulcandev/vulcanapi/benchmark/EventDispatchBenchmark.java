@@ -0,0 +1,102 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.event.VulcanListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link VulcanEventManager#callEvent} for a growing number of listeners, with every listener on one
+ * priority or spread over all of them, for an event that is {@code Cancellable} and one that is not.
+ * Handlers never cancel, so every registered handler runs on each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventDispatchBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    private int listenerCount;
+
+    @Param({"SINGLE", "MIXED"})
+    private PriorityMix priorityMix;
+
+    @Param({"true", "false"})
+    private boolean metrics;
+
+    private final List<VulcanListener> registered = new ArrayList<>();
+    private VulcanEventManager manager;
+    private BenchmarkEvent event;
+    private CancellableBenchmarkEvent cancellableEvent;
+
+    public enum PriorityMix {
+        // Every listener on NORMAL
+        SINGLE,
+        // Listeners cycle through LOWEST to MONITOR
+        MIXED
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = VulcanEventManager.getInstance();
+        manager.setMetricsEnabled(metrics);
+
+        EventPriority[] priorities = EventPriority.values();
+        for (int i = 0; i < listenerCount; i++) {
+            EventPriority priority = priorityMix == PriorityMix.MIXED ? priorities[i % priorities.length] : EventPriority.NORMAL;
+            VulcanListener listener = BenchmarkListeners.create(priority);
+            manager.registerListener(null, listener);
+            registered.add(listener);
+        }
+
+        event = new BenchmarkEvent();
+        cancellableEvent = new CancellableBenchmarkEvent();
+
+        // Bake the dispatch plans outside the measurement
+        manager.callEvent(event);
+        manager.callEvent(cancellableEvent);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (VulcanListener listener : registered) {
+            manager.unregisterListener(listener);
+        }
+        registered.clear();
+        manager.resetMetrics();
+    }
+
+    @Benchmark
+    public boolean callEvent() {
+        return manager.callEvent(event);
+    }
+
+    @Benchmark
+    public boolean callCancellableEvent() {
+        return manager.callEvent(cancellableEvent);
+    }
+
+    @Benchmark
+    public boolean hasListeners() {
+        return manager.hasListeners(BenchmarkEvent.class);
+    }
+}
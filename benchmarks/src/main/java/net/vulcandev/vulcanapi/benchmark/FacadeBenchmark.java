@@ -0,0 +1,112 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.benchmark.standin.StandInEnchantsPlugin;
+import net.vulcandev.vulcanapi.benchmark.standin.StandInEventsPlugin;
+import net.vulcandev.vulcanapi.benchmark.standin.StandInStaffPlugin;
+import net.vulcandev.vulcanapi.benchmark.standin.StandInToolsPlugin;
+import net.vulcandev.vulcanapi.vulcanenchants.VulcanEnchantsAPI;
+import net.vulcandev.vulcanapi.vulcanevents.VulcanEventsAPI;
+import net.vulcandev.vulcanapi.vulcanstaff.VulcanStaffAPI;
+import net.vulcandev.vulcanapi.vulcantools.VulcanToolsAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code isAvailable()} checks other plugins make before every module call, with the module
+ * present (backed by a stand-in plugin) or absent, plus one guarded call through each facade.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FacadeBenchmark {
+
+    @Param({"true", "false"})
+    private boolean installed;
+
+    private final UUID player = UUID.randomUUID();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!installed) return;
+
+        StandInStaffPlugin staff = new StandInStaffPlugin();
+        staff.setVanished(player, true);
+
+        Facades.install(VulcanToolsAPI.class, new VulcanToolsAPI(new StandInToolsPlugin()));
+        Facades.install(VulcanEnchantsAPI.class, new VulcanEnchantsAPI(new StandInEnchantsPlugin("explosive", "haste", "fortune")));
+        Facades.install(VulcanStaffAPI.class, new VulcanStaffAPI(staff));
+        Facades.install(VulcanEventsAPI.class, new VulcanEventsAPI(new StandInEventsPlugin()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Facades.uninstall(VulcanToolsAPI.class);
+        Facades.uninstall(VulcanEnchantsAPI.class);
+        Facades.uninstall(VulcanStaffAPI.class);
+        Facades.uninstall(VulcanEventsAPI.class);
+    }
+
+    @Benchmark
+    public boolean toolsAvailable() {
+        return VulcanToolsAPI.isAvailable();
+    }
+
+    @Benchmark
+    public boolean enchantsAvailable() {
+        return VulcanEnchantsAPI.isAvailable();
+    }
+
+    @Benchmark
+    public boolean staffAvailable() {
+        return VulcanStaffAPI.isAvailable();
+    }
+
+    @Benchmark
+    public boolean eventsAvailable() {
+        return VulcanEventsAPI.isAvailable();
+    }
+
+    @Benchmark
+    public boolean allAvailable() {
+        return VulcanToolsAPI.isAvailable() && VulcanEnchantsAPI.isAvailable()
+                && VulcanStaffAPI.isAvailable() && VulcanEventsAPI.isAvailable();
+    }
+
+    @Benchmark
+    public boolean staffIsVanished() {
+        return VulcanStaffAPI.isAvailable() && VulcanStaffAPI.getInstance().isVanished(player);
+    }
+
+    @Benchmark
+    public boolean enchantExists() {
+        return VulcanEnchantsAPI.isAvailable() && VulcanEnchantsAPI.getInstance().enchantExists("explosive");
+    }
+
+    @Benchmark
+    public long toolsCurrencyIds() {
+        if (!VulcanToolsAPI.isAvailable()) return 0L;
+        return VulcanToolsAPI.getInstance().getCurrencyManager().getAllCurrencyIds().size();
+    }
+
+    @Benchmark
+    public boolean eventsHasActiveEvent() {
+        return VulcanEventsAPI.isAvailable() && VulcanEventsAPI.getInstance().hasActiveEvent();
+    }
+}
@@ -0,0 +1,32 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import java.lang.reflect.Field;
+
+/**
+ * Installs facade instances without a server. The facades' own {@code initialize(Plugin)} methods need a
+ * Bukkit {@code Plugin} implementing the module interface, so the suites set the static field directly.
+ */
+final class Facades {
+
+    private Facades() {}
+
+    static <T> void install(Class<T> facadeType, T facade) {
+        try {
+            Field field = facadeType.getDeclaredField("instance");
+            field.setAccessible(true);
+            field.set(null, facade);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not install " + facadeType.getSimpleName(), e);
+        }
+    }
+
+    static void uninstall(Class<?> facadeType) {
+        try {
+            Field field = facadeType.getDeclaredField("instance");
+            field.setAccessible(true);
+            field.set(null, null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not uninstall " + facadeType.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package net.vulcandev.vulcanapi.benchmark;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.event.VulcanListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of adding and removing one listener while {@code existingListeners} others stay registered,
+ * including the first dispatch after the change that has to rebuild the plan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RegistrationBenchmark {
+
+    @Param({"0", "100", "1000"})
+    private int existingListeners;
+
+    private final List<VulcanListener> registered = new ArrayList<>();
+    private VulcanEventManager manager;
+    private BenchmarkEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = VulcanEventManager.getInstance();
+
+        EventPriority[] priorities = EventPriority.values();
+        for (int i = 0; i < existingListeners; i++) {
+            VulcanListener listener = BenchmarkListeners.create(priorities[i % priorities.length]);
+            manager.registerListener(null, listener);
+            registered.add(listener);
+        }
+        event = new BenchmarkEvent();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (VulcanListener listener : registered) {
+            manager.unregisterListener(listener);
+        }
+        registered.clear();
+    }
+
+    @Benchmark
+    public void registerAndUnregister() {
+        VulcanListener listener = BenchmarkListeners.create(EventPriority.NORMAL);
+        manager.registerListener(null, listener);
+        manager.unregisterListener(listener);
+    }
+
+    @Benchmark
+    public boolean registerDispatchUnregister() {
+        VulcanListener listener = BenchmarkListeners.create(EventPriority.NORMAL);
+        manager.registerListener(null, listener);
+        boolean cancelled = manager.callEvent(event);
+        manager.unregisterListener(listener);
+        return cancelled;
+    }
+
+    @Benchmark
+    public void subscribeAndClose() {
+        EventSubscription subscription = manager.subscribe(null, BenchmarkEvent.class, EventPriority.NORMAL, false, e -> {});
+        subscription.close();
+    }
+}
@@ -0,0 +1,111 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.vulcantools.interfaces.IBoosterManager;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StandInBoosterManager implements IBoosterManager {
+    private final Map<UUID, Booster> boosters = new ConcurrentHashMap<>();
+
+    @Override
+    public double getTotalMultiplier(Player player, String boosterType, String target) {
+        double total = 1.0;
+        for (Booster booster : boosters.values()) {
+            if (booster.matches(player.getUniqueId(), boosterType, target)) {
+                total += booster.multiplier - 1.0;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void applyBooster(Player player, String boosterType, String target, double multiplier, int durationSeconds) {
+        applyBooster(player, boosterType, target, multiplier, durationSeconds, UUID.randomUUID());
+    }
+
+    @Override
+    public boolean hasActiveBooster(Player player, String boosterType, String target) {
+        for (Booster booster : boosters.values()) {
+            if (booster.matches(player.getUniqueId(), boosterType, target)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public UUID applyBooster(Player player, String boosterType, String target, double multiplier, int durationSeconds, UUID uuid) {
+        boosters.put(uuid, new Booster(uuid, player.getUniqueId(), boosterType, target, multiplier,
+                System.currentTimeMillis() + durationSeconds * 1000L));
+        return uuid;
+    }
+
+    @Override
+    public UUID applyBoosters(List<Player> players, String boosterType, String target, double multiplier, int durationSeconds, UUID uuid) {
+        for (Player player : players) {
+            applyBooster(player, boosterType, target, multiplier, durationSeconds, UUID.randomUUID());
+        }
+        return uuid;
+    }
+
+    @Override
+    public UUID applyBoostersByUUID(List<UUID> playerUuids, String boosterType, String target, double multiplier, int durationSeconds, UUID uuid) {
+        long expiresAt = System.currentTimeMillis() + durationSeconds * 1000L;
+        for (UUID playerUuid : playerUuids) {
+            UUID id = UUID.randomUUID();
+            boosters.put(id, new Booster(id, playerUuid, boosterType, target, multiplier, expiresAt));
+        }
+        return uuid;
+    }
+
+    @Override
+    public Object getPlayerBooster(UUID uuid) {
+        for (Booster booster : boosters.values()) {
+            if (booster.player.equals(uuid) && !booster.isExpired()) return booster;
+        }
+        return null;
+    }
+
+    @Override
+    public UUID getBoosterUUID(Object booster) {
+        return booster instanceof Booster ? ((Booster) booster).id : null;
+    }
+
+    @Override
+    public boolean removeBooster(Player player, String boosterType) {
+        return boosters.values().removeIf(booster -> booster.player.equals(player.getUniqueId()) && booster.type.equals(boosterType));
+    }
+
+    @Override
+    public boolean removeBooster(UUID uuid) {
+        return boosters.remove(uuid) != null;
+    }
+
+    private static final class Booster {
+        private final UUID id;
+        private final UUID player;
+        private final String type;
+        private final String target;
+        private final double multiplier;
+        private final long expiresAt;
+
+        private Booster(UUID id, UUID player, String type, String target, double multiplier, long expiresAt) {
+            this.id = id;
+            this.player = player;
+            this.type = type;
+            this.target = target;
+            this.multiplier = multiplier;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+
+        private boolean matches(UUID player, String type, String target) {
+            return this.player.equals(player) && this.type.equals(type) && this.target.equals(target) && !isExpired();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.vulcantools.interfaces.ICurrencyManager;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StandInCurrencyManager implements ICurrencyManager {
+    private final Set<String> currencies;
+    private final Map<UUID, Map<String, Long>> balances = new ConcurrentHashMap<>();
+
+    public StandInCurrencyManager(String... currencies) {
+        this.currencies = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(currencies)));
+    }
+
+    @Override
+    public long getBalance(OfflinePlayer player, String currency) {
+        Map<String, Long> balance = balances.get(player.getUniqueId());
+        return balance == null ? 0L : balance.getOrDefault(currency, 0L);
+    }
+
+    @Override
+    public void giveCurrency(OfflinePlayer player, String currency, long amount) {
+        if (!currencyExists(currency)) return;
+        balances.computeIfAbsent(player.getUniqueId(), k -> new ConcurrentHashMap<>()).merge(currency, amount, Long::sum);
+    }
+
+    @Override
+    public void removeCurrency(OfflinePlayer player, String currency, long amount) {
+        giveCurrency(player, currency, -amount);
+    }
+
+    @Override
+    public boolean hasEnough(OfflinePlayer player, String currency, long amount) {
+        return getBalance(player, currency) >= amount;
+    }
+
+    @Override
+    public boolean payCurrency(Player sender, OfflinePlayer receiver, String currency, long amount) {
+        if (amount <= 0 || !hasEnough(sender, currency, amount)) return false;
+        removeCurrency(sender, currency, amount);
+        giveCurrency(receiver, currency, amount);
+        return true;
+    }
+
+    @Override
+    public String getCurrencyIdByTool(String toolType) {
+        return currencies.isEmpty() ? null : currencies.iterator().next();
+    }
+
+    @Override
+    public Set<String> getAllCurrencyIds() {
+        return currencies;
+    }
+
+    @Override
+    public boolean currencyExists(String currency) {
+        return currencies.contains(currency);
+    }
+}
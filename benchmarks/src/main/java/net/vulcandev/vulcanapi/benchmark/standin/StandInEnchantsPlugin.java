@@ -0,0 +1,115 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.interfaces.enchants.IEnchantWrapper;
+import net.vulcandev.vulcanapi.interfaces.enchants.IVulcanEnchantsPlugin;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link IVulcanEnchantsPlugin} that knows a fixed set of enchant keys with a cost each. It has no enchant
+ * wrappers and does not touch items, since those need a running server.
+ */
+public class StandInEnchantsPlugin implements IVulcanEnchantsPlugin {
+    private final Map<String, Integer> costs = new HashMap<>();
+
+    public StandInEnchantsPlugin(String... keys) {
+        for (int i = 0; i < keys.length; i++) {
+            costs.put(keys[i], (i + 1) * 100);
+        }
+    }
+
+    @Nullable
+    @Override
+    public IEnchantWrapper getEnchant(@NotNull String key) {
+        return null;
+    }
+
+    @NotNull
+    @Override
+    public Set<String> getAllEnchantKeys() {
+        return Collections.unmodifiableSet(costs.keySet());
+    }
+
+    @NotNull
+    @Override
+    public List<IEnchantWrapper> getAllEnchants() {
+        return Collections.emptyList();
+    }
+
+    @NotNull
+    @Override
+    public List<IEnchantWrapper> getPotionEnchants() {
+        return Collections.emptyList();
+    }
+
+    @NotNull
+    @Override
+    public List<IEnchantWrapper> getCustomEnchants() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean enchantExists(@NotNull String key) {
+        return costs.containsKey(key);
+    }
+
+    @Override
+    public boolean isEnchantEnabled(@NotNull String key) {
+        return costs.containsKey(key);
+    }
+
+    @Override
+    public int getEnchantCost(@NotNull String key) {
+        return costs.getOrDefault(key, 0);
+    }
+
+    @Nullable
+    @Override
+    public ItemStack getEnchantBook(@NotNull String key) {
+        return null;
+    }
+
+    @Override
+    public boolean isPotionEnchant(@NotNull String key) {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public String getPotionEffectType(@NotNull String key) {
+        return null;
+    }
+
+    @Override
+    public int getPotionAmplifier(@NotNull String key) {
+        return 0;
+    }
+
+    @Override
+    public boolean itemHasEnchant(@NotNull ItemStack item, @NotNull String key) {
+        return false;
+    }
+
+    @NotNull
+    @Override
+    public Set<String> getItemEnchants(@NotNull ItemStack item) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean canApplyEnchant(@NotNull ItemStack item, @NotNull String key) {
+        return costs.containsKey(key);
+    }
+
+    @Override
+    public void applyAllPotionEnchants(@NotNull Player player) {
+    }
+}
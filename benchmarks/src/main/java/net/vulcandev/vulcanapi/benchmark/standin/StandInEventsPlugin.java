@@ -0,0 +1,26 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.interfaces.events.IEventInstance;
+import net.vulcandev.vulcanapi.interfaces.events.IPlayerBan;
+import net.vulcandev.vulcanapi.interfaces.events.IVulcanEventsPlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * {@link IVulcanEventsPlugin} with no running event and no bans, the common state on a live server.
+ */
+public class StandInEventsPlugin implements IVulcanEventsPlugin {
+
+    @Nullable
+    @Override
+    public IEventInstance getCurrentEvent() {
+        return null;
+    }
+
+    @Nullable
+    @Override
+    public IPlayerBan getPlayerBan(UUID uuid) {
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.interfaces.staff.IVulcanStaffPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link IVulcanStaffPlugin} for running the facades without VulcanStaff or a server.
+ */
+public class StandInStaffPlugin implements IVulcanStaffPlugin {
+    private final Set<UUID> vanished = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> frozen = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> staffMode = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean isVanished(@NotNull UUID uuid) {
+        return vanished.contains(uuid);
+    }
+
+    @Override
+    public void setVanished(@NotNull UUID uuid, boolean vanished) {
+        if (vanished) {
+            this.vanished.add(uuid);
+        } else {
+            this.vanished.remove(uuid);
+        }
+    }
+
+    @NotNull
+    @Override
+    public Set<UUID> getVanishedPlayers() {
+        return Collections.unmodifiableSet(vanished);
+    }
+
+    @Override
+    public boolean canSeeVanished(@NotNull UUID uuid) {
+        return staffMode.contains(uuid);
+    }
+
+    @Override
+    public boolean isInStaffMode(@NotNull UUID uuid) {
+        return staffMode.contains(uuid);
+    }
+
+    @Override
+    public boolean isFrozen(@NotNull UUID uuid) {
+        return frozen.contains(uuid);
+    }
+
+    @Override
+    public void setFrozen(@NotNull UUID uuid, boolean frozen) {
+        if (frozen) {
+            this.frozen.add(uuid);
+        } else {
+            this.frozen.remove(uuid);
+        }
+    }
+
+    @Override
+    public String moderateChat(@NotNull UUID uuid, @NotNull String message) {
+        return message;
+    }
+
+    public void setStaffMode(UUID uuid, boolean enabled) {
+        if (enabled) {
+            staffMode.add(uuid);
+        } else {
+            staffMode.remove(uuid);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.vulcantools.interfaces.IEventManager;
+import net.vulcandev.vulcanapi.wrapper.ToolTypeWrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StandInToolEventManager implements IEventManager {
+    private final Map<UUID, Integer> harvests = new ConcurrentHashMap<>();
+    private volatile ToolTypeWrapper eventType;
+    private volatile long endsAt;
+
+    @Override
+    public void startEvent(ToolTypeWrapper eventType, int durationSeconds) {
+        harvests.clear();
+        this.eventType = eventType;
+        this.endsAt = System.currentTimeMillis() + durationSeconds * 1000L;
+    }
+
+    @Override
+    public void endEvent() {
+        eventType = null;
+    }
+
+    @Override
+    public boolean isEventActive() {
+        return eventType != null && System.currentTimeMillis() < endsAt;
+    }
+
+    @Override
+    public ToolTypeWrapper getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public void addHarvest(UUID playerUUID, int amount, ToolTypeWrapper toolType) {
+        if (!isEventActive()) return;
+        harvests.merge(playerUUID, amount, Integer::sum);
+    }
+
+    @Override
+    public int getHarvestAmount(UUID playerUUID) {
+        return harvests.getOrDefault(playerUUID, 0);
+    }
+
+    @Override
+    public LinkedHashMap<UUID, Integer> getSortedByHarvestedAmount() {
+        List<Map.Entry<UUID, Integer>> entries = new ArrayList<>(harvests.entrySet());
+        entries.sort(Map.Entry.<UUID, Integer>comparingByValue().reversed());
+
+        LinkedHashMap<UUID, Integer> sorted = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Integer> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+
+    @Override
+    public List<String> getTopPlayers(int limit) {
+        List<String> top = new ArrayList<>(limit);
+        for (UUID uuid : getSortedByHarvestedAmount().keySet()) {
+            if (top.size() >= limit) break;
+            top.add(uuid.toString());
+        }
+        return top;
+    }
+}
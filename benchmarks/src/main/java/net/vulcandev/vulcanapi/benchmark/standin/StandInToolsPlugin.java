@@ -0,0 +1,34 @@
+package net.vulcandev.vulcanapi.benchmark.standin;
+
+import net.vulcandev.vulcanapi.interfaces.tools.IVulcanToolsPlugin;
+import net.vulcandev.vulcanapi.vulcantools.interfaces.IBoosterManager;
+import net.vulcandev.vulcanapi.vulcantools.interfaces.ICurrencyManager;
+import net.vulcandev.vulcanapi.vulcantools.interfaces.IEventManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link IVulcanToolsPlugin} backed by in-memory managers, for running the facades without VulcanTools or a server.
+ */
+public class StandInToolsPlugin implements IVulcanToolsPlugin {
+    private final StandInCurrencyManager currencyManager = new StandInCurrencyManager("tokens", "gems");
+    private final StandInToolEventManager eventManager = new StandInToolEventManager();
+    private final StandInBoosterManager boosterManager = new StandInBoosterManager();
+
+    @NotNull
+    @Override
+    public ICurrencyManager getCurrencyManager() {
+        return currencyManager;
+    }
+
+    @NotNull
+    @Override
+    public IEventManager getEventManager() {
+        return eventManager;
+    }
+
+    @NotNull
+    @Override
+    public IBoosterManager getBoosterManager() {
+        return boosterManager;
+    }
+}
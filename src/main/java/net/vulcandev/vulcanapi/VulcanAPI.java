@@ -1,17 +1,57 @@
 package net.vulcandev.vulcanapi;
 
 import lombok.Getter;
+import net.vulcandev.vulcanapi.command.VulcanAPICommand;
+import net.vulcandev.vulcanapi.event.AsyncOverflowPolicy;
+import net.vulcandev.vulcanapi.event.CircuitBreakerSettings;
+import net.vulcandev.vulcanapi.event.EventPool;
 import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.event.journal.EventCodecRegistry;
+import net.vulcandev.vulcanapi.event.journal.EventJournal;
+import net.vulcandev.vulcanapi.fortress.alts.FortressAltIndex;
+import net.vulcandev.vulcanapi.fortress.cache.FortressSessionCache;
+import net.vulcandev.vulcanapi.fortress.persistence.FortressLogWriter;
+import net.vulcandev.vulcanapi.fortress.persistence.WriteBehindOverflowPolicy;
+import net.vulcandev.vulcanapi.fortress.persistence.WriteBehindSettings;
+import net.vulcandev.vulcanapi.fortress.stats.FortressFlagStats;
+import net.vulcandev.vulcanapi.listener.PluginDisableListener;
+import net.vulcandev.vulcanapi.metrics.MetricsHttpServer;
+import net.vulcandev.vulcanapi.scheduler.MainThreadQueue;
 import net.vulcandev.vulcanloader.loader.VulcanPlugin;
 import net.xantharddev.vulcanlib.Logger;
+import org.bukkit.command.PluginCommand;
+
+import java.io.IOException;
+import java.util.Locale;
 
 public final class VulcanAPI extends VulcanPlugin {
+    private static final long MAX_JOURNAL_SEGMENT_MB = Integer.MAX_VALUE / (1024L * 1024L);
+
     @Getter
     private static VulcanAPI instance;
 
+    @Getter
+    private EventJournal eventJournal;
+
+    private MetricsHttpServer metricsServer;
+
     public void onSecureEnable() {
         instance = this;
 
+        saveDefaultConfig();
+        loadEventSettings();
+        startEventJournal();
+        startMetricsServer();
+        if (getConfig().getBoolean("fortress.flag-stats.enabled", true)) {
+            FortressFlagStats.getInstance().attach(VulcanEventManager.getInstance());
+        }
+        startSessionCache();
+        startAltIndex();
+        loadWriteBehindSettings();
+        MainThreadQueue.getInstance().start(this, getConfig().getLong("main-thread.budget-millis", 5L));
+        registerCommands();
+        getServer().getPluginManager().registerEvents(new PluginDisableListener(), this);
+
         Logger.log("&aVulcanAPI v" + getDescription().getVersion() + " enabled");
         Logger.log("&7Global event system initialized");
         Logger.log("&7Event manager ready for cross-plugin communication");
@@ -27,9 +67,173 @@ public final class VulcanAPI extends VulcanPlugin {
             Logger.log("&7Unregistering " + listenerCount + " event listeners...");
         }
 
+        if (eventJournal != null) {
+            eventJournal.close();
+            Logger.log("&7Event journal closed after " + eventJournal.getWrittenCount() + " events");
+            eventJournal = null;
+        }
+
+        if (metricsServer != null) {
+            metricsServer.stop();
+            metricsServer = null;
+        }
+
+        FortressFlagStats.getInstance().detach();
+        FortressAltIndex.getInstance().detach();
+        FortressSessionCache.getInstance().detach();
         eventManager.shutdown();
 
+        MainThreadQueue mainThreadQueue = MainThreadQueue.getInstance();
+        mainThreadQueue.stop();
+        int droppedTasks = mainThreadQueue.clear();
+        if (droppedTasks > 0) {
+            Logger.log("&7Dropped " + droppedTasks + " queued main thread tasks");
+        }
+
         Logger.log("&cVulcanAPI disabled");
         instance = null;
     }
+
+    private void loadEventSettings() {
+        VulcanEventManager eventManager = VulcanEventManager.getInstance();
+        eventManager.setMetricsEnabled(getConfig().getBoolean("events.metrics", true));
+        EventPool.setLeakDetection(getConfig().getBoolean("events.pooling.leak-detection", false));
+        eventManager.configureAsync(
+                getConfig().getInt("events.async.workers", 2),
+                getConfig().getInt("events.async.queue-capacity", 4096),
+                getOverflowPolicy("events.async.overflow-policy")
+        );
+        eventManager.configureOrdered(
+                getConfig().getInt("events.ordered.workers", 4),
+                getConfig().getInt("events.ordered.queue-capacity", 4096),
+                getOverflowPolicy("events.ordered.overflow-policy")
+        );
+
+        eventManager.setCircuitBreakerSettings(new CircuitBreakerSettings(
+                getConfig().getBoolean("events.circuit-breaker.enabled", true),
+                getConfig().getLong("events.circuit-breaker.window-seconds", 30L) * 1000L,
+                getConfig().getInt("events.circuit-breaker.minimum-failures", 5),
+                getConfig().getDouble("events.circuit-breaker.failure-rate", 0.5),
+                getConfig().getLong("events.circuit-breaker.slow-call-millis", 50L),
+                getConfig().getInt("events.circuit-breaker.slow-call-threshold", 20),
+                getConfig().getLong("events.circuit-breaker.base-backoff-seconds", 5L) * 1000L,
+                getConfig().getLong("events.circuit-breaker.max-backoff-seconds", 300L) * 1000L,
+                getConfig().getLong("events.circuit-breaker.error-log-interval-seconds", 30L) * 1000L
+        ));
+    }
+
+    private void startEventJournal() {
+        if (!getConfig().getBoolean("events.journal.enabled", false)) return;
+
+        // Each segment is mapped as one buffer, which cannot hold more than Integer.MAX_VALUE bytes
+        long segmentMb = getConfig().getLong("events.journal.segment-size-mb", 64L);
+        if (segmentMb > MAX_JOURNAL_SEGMENT_MB) {
+            Logger.log("&cevents.journal.segment-size-mb " + segmentMb + " is above the " + MAX_JOURNAL_SEGMENT_MB
+                    + " MB limit, using " + MAX_JOURNAL_SEGMENT_MB);
+            segmentMb = MAX_JOURNAL_SEGMENT_MB;
+        }
+
+        EventJournal journal = new EventJournal(
+                getDataFolder().toPath().resolve(getConfig().getString("events.journal.directory", "journal")),
+                (int) Math.max(0L, segmentMb * 1024L * 1024L),
+                getConfig().getInt("events.journal.max-segments", 8),
+                EventCodecRegistry.withDefaults()
+        );
+
+        try {
+            journal.open();
+        } catch (IOException e) {
+            Logger.log("&cCould not open the event journal: " + e.getMessage());
+            return;
+        }
+
+        journal.attach(VulcanEventManager.getInstance());
+        eventJournal = journal;
+        Logger.log("&7Event journal writing to " + journal.getCurrentSegment());
+    }
+
+    private void startSessionCache() {
+        FortressSessionCache cache = FortressSessionCache.getInstance();
+        cache.configure(
+                getConfig().getBoolean("fortress.session-cache.enabled", true),
+                getConfig().getInt("fortress.session-cache.max-size", 10000),
+                getConfig().getLong("fortress.session-cache.ttl-seconds", 60L) * 1000L
+        );
+        if (cache.isEnabled()) {
+            cache.attach(VulcanEventManager.getInstance());
+        }
+    }
+
+    private void startAltIndex() {
+        if (!getConfig().getBoolean("fortress.alt-index.enabled", true)) return;
+
+        FortressAltIndex index = FortressAltIndex.getInstance();
+        index.configure(
+                getConfig().getInt("fortress.alt-index.sensitivity-bucket", 5),
+                getConfig().getInt("fortress.alt-index.max-posting-size", 5000),
+                getConfig().getInt("fortress.alt-index.max-players", 100000),
+                getConfig().getBoolean("fortress.alt-index.fuzzy-mods", false)
+        );
+        index.attach(VulcanEventManager.getInstance());
+    }
+
+    private void loadWriteBehindSettings() {
+        String policyName = getConfig().getString("fortress.write-behind.overflow-policy", "DROP_LOW_VALUE");
+        WriteBehindOverflowPolicy policy;
+        try {
+            policy = WriteBehindOverflowPolicy.valueOf(policyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            Logger.log("&cUnknown fortress.write-behind.overflow-policy '" + policyName + "', using DROP_LOW_VALUE");
+            policy = WriteBehindOverflowPolicy.DROP_LOW_VALUE;
+        }
+
+        FortressLogWriter.setDefaults(new WriteBehindSettings(
+                getConfig().getInt("fortress.write-behind.queue-capacity", 65536),
+                getConfig().getInt("fortress.write-behind.max-batch-size", 500),
+                getConfig().getLong("fortress.write-behind.max-latency-millis", 250L),
+                getConfig().getLong("fortress.write-behind.offer-timeout-millis", 0L),
+                policy,
+                getConfig().getDouble("fortress.write-behind.low-value-watermark", 0.75),
+                getConfig().getInt("fortress.write-behind.max-retries", 3),
+                getConfig().getLong("fortress.write-behind.retry-backoff-millis", 200L)
+        ), getConfig().getInt("fortress.write-behind.low-value-below-vl", 3));
+    }
+
+    private void startMetricsServer() {
+        if (!getConfig().getBoolean("metrics.http.enabled", false)) return;
+
+        MetricsHttpServer server = new MetricsHttpServer(
+                getConfig().getString("metrics.http.host", "127.0.0.1"),
+                getConfig().getInt("metrics.http.port", 9464)
+        );
+
+        try {
+            server.start();
+        } catch (IOException e) {
+            Logger.log("&cCould not start the metrics endpoint: " + e.getMessage());
+            return;
+        }
+
+        metricsServer = server;
+        Logger.log("&7Metrics served at http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + MetricsHttpServer.PATH);
+    }
+
+    private AsyncOverflowPolicy getOverflowPolicy(String path) {
+        String policyName = getConfig().getString(path, "DISCARD");
+        try {
+            return AsyncOverflowPolicy.valueOf(policyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            Logger.log("&cUnknown " + path + " '" + policyName + "', using DISCARD");
+            return AsyncOverflowPolicy.DISCARD;
+        }
+    }
+
+    private void registerCommands() {
+        PluginCommand command = getCommand("vulcanapi");
+        if (command == null) return;
+
+        VulcanAPICommand executor = new VulcanAPICommand();
+        command.setExecutor(executor);
+        command.setTabCompleter(executor);
+    }
 }
@@ -0,0 +1,148 @@
+package net.vulcandev.vulcanapi.command;
+
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.event.metrics.EventTypeStats;
+import net.vulcandev.vulcanapi.event.metrics.HandlerStats;
+import net.vulcandev.vulcanapi.event.metrics.LatencySnapshot;
+import net.vulcandev.vulcanapi.scheduler.MainThreadQueue;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class VulcanAPICommand implements CommandExecutor, TabCompleter {
+    private static final String PERMISSION = "vulcanapi.admin";
+    private static final int DEFAULT_LIMIT = 10;
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!sender.hasPermission(PERMISSION)) {
+            send(sender, "&cYou do not have permission to use this command.");
+            return true;
+        }
+
+        if (args.length == 0 || !args[0].equalsIgnoreCase("events")) {
+            send(sender, "&7Usage: &f/" + label + " events [handlers|types|queues|reset|release] [limit]");
+            return true;
+        }
+
+        String view = args.length > 1 ? args[1].toLowerCase() : "handlers";
+        int limit = args.length > 2 ? parseLimit(args[2]) : DEFAULT_LIMIT;
+        VulcanEventManager eventManager = VulcanEventManager.getInstance();
+
+        switch (view) {
+            case "handlers":
+                showHandlers(sender, eventManager.getHandlerStats(), limit);
+                break;
+            case "types":
+                showEventTypes(sender, eventManager.getEventTypeStats(), limit);
+                break;
+            case "queues":
+                showQueues(sender, eventManager);
+                break;
+            case "reset":
+                eventManager.resetMetrics();
+                send(sender, "&aEvent metrics reset.");
+                break;
+            case "release":
+                eventManager.resetCircuitBreakers();
+                send(sender, "&aAll quarantined event handlers released.");
+                break;
+            default:
+                send(sender, "&7Usage: &f/" + label + " events [handlers|types|queues|reset|release] [limit]");
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (!sender.hasPermission(PERMISSION)) return Collections.emptyList();
+        if (args.length == 1) return filter(Collections.singletonList("events"), args[0]);
+        if (args.length == 2 && args[0].equalsIgnoreCase("events")) {
+            return filter(Arrays.asList("handlers", "types", "queues", "reset", "release"), args[1]);
+        }
+        return Collections.emptyList();
+    }
+
+    private void showHandlers(CommandSender sender, List<HandlerStats> stats, int limit) {
+        send(sender, "&6Event handlers &7(" + stats.size() + " registered, " + onOff() + "&7)");
+        for (HandlerStats handler : stats.subList(0, Math.min(limit, stats.size()))) {
+            LatencySnapshot latency = handler.getLatency();
+            send(sender, "&f" + shortName(handler.getListenerName()) + "#" + handler.getMethodName()
+                    + " &7(" + handler.getEventType() + ", " + handler.getPriority() + (handler.isAsync() ? ", async" : "") + ")"
+                    + (handler.isQuarantined() ? " &c[quarantined]" : ""));
+            send(sender, "  " + describe(latency));
+        }
+    }
+
+    private void showEventTypes(CommandSender sender, List<EventTypeStats> stats, int limit) {
+        send(sender, "&6Event types &7(" + stats.size() + " fired, " + onOff() + "&7)");
+        for (EventTypeStats type : stats.subList(0, Math.min(limit, stats.size()))) {
+            send(sender, "&f" + type.getEventType() + " &7(" + type.getHandlerCount() + " handlers)");
+            send(sender, "  " + describe(type.getLatency()));
+        }
+    }
+
+    private void showQueues(CommandSender sender, VulcanEventManager eventManager) {
+        MainThreadQueue mainThread = MainThreadQueue.getInstance();
+        send(sender, "&6Event queues");
+        send(sender, "&fmain thread &7depth &f" + mainThread.getQueueDepth()
+                + " &7lag &f" + mainThread.getLagMillis() + "ms"
+                + " &7last tick &f" + formatNanos(mainThread.getLastDrainNanos()) + "&7/&f" + mainThread.getBudgetMillis() + "ms"
+                + " &7ran &f" + mainThread.getExecutedCount());
+        send(sender, "&fasync &7pending &f" + eventManager.getPendingAsyncEvents()
+                + " &7dropped &f" + eventManager.getDroppedAsyncEvents());
+        send(sender, "&fordered &7pending &f" + eventManager.getPendingOrderedEvents()
+                + " &7dropped &f" + eventManager.getDroppedOrderedEvents());
+    }
+
+    private String describe(LatencySnapshot latency) {
+        return "&7calls &f" + latency.getCount()
+                + " &7total &f" + formatNanos(latency.getTotalNanos())
+                + " &7avg &f" + formatNanos(latency.getMeanNanos())
+                + " &7p99 &f" + formatNanos(latency.getPercentileNanos(99.0))
+                + " &7max &f" + formatNanos(latency.getMaxNanos());
+    }
+
+    private String onOff() {
+        return VulcanEventManager.getInstance().isMetricsEnabled() ? "&atiming on" : "&ctiming off";
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000_000L) return String.format("%.2fs", nanos / 1_000_000_000.0);
+        if (nanos >= 1_000_000L) return String.format("%.2fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000L) return String.format("%.1fµs", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+
+    private static String shortName(String className) {
+        int dot = className.lastIndexOf('.');
+        return dot < 0 ? className : className.substring(dot + 1);
+    }
+
+    private static int parseLimit(String value) {
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return DEFAULT_LIMIT;
+        }
+    }
+
+    private static List<String> filter(List<String> options, String prefix) {
+        List<String> matches = new ArrayList<>();
+        for (String option : options) {
+            if (option.startsWith(prefix.toLowerCase())) matches.add(option);
+        }
+        return matches;
+    }
+
+    private static void send(CommandSender sender, String message) {
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', message));
+    }
+}
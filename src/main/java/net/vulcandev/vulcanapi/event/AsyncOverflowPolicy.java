@@ -0,0 +1,16 @@
+package net.vulcandev.vulcanapi.event;
+
+/**
+ * What the async dispatch lane does with an event when its worker queue is full.
+ */
+public enum AsyncOverflowPolicy {
+    /**
+     * The event is dropped for the async handlers and counted in {@link VulcanEventManager#getDroppedAsyncEvents()}.
+     */
+    DISCARD,
+    /**
+     * The async handlers run on the calling thread instead. Nothing is lost, but ordering against
+     * events still queued for the same type is no longer guaranteed.
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,28 @@
+package net.vulcandev.vulcanapi.event;
+
+import java.util.List;
+
+/**
+ * Compiled call site for an {@link EventHandler} method that takes a {@code List} of events.
+ * Such handlers receive a whole run of events from {@link VulcanEventManager#callEvents(List)},
+ * and a single-element list when an event is fired on its own.
+ */
+@FunctionalInterface
+public interface BatchEventExecutor {
+
+    /**
+     * Invokes the handler method on the given listener
+     * @param listener the listener instance owning the handler (ignored for static handlers)
+     * @param events the events being dispatched, all of the same class
+     */
+    void execute(VulcanListener listener, List<? extends VulcanEvent> events) throws Throwable;
+
+    /**
+     * Gets the executor for a batch handler method, compiling it on first use
+     * @param method the annotated handler method
+     * @return a direct executor for the method
+     */
+    static BatchEventExecutor of(java.lang.reflect.Method method) {
+        return EventExecutorFactory.getBatch(method);
+    }
+}
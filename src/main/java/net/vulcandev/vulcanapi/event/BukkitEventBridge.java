@@ -0,0 +1,266 @@
+package net.vulcandev.vulcanapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import net.vulcandev.vulcanapi.VulcanAPI;
+import net.vulcandev.vulcanapi.event.metrics.EventTypeStats;
+import net.vulcandev.vulcanapi.event.metrics.HandlerStats;
+import net.vulcandev.vulcanapi.event.metrics.LatencyRecorder;
+import net.vulcandev.vulcanapi.event.metrics.LatencySnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Delivers Bukkit events to handlers subscribed through {@link VulcanEventManager#subscribeBukkit}.
+ * Every (event class, priority) pair holds a single Bukkit registration shared by all of its handlers, so adding
+ * or removing a handler never rebuilds Bukkit's HandlerList. Events reach the handlers as they are, and each
+ * handler is timed and quarantined the same way as a VulcanEvent handler.
+ */
+final class BukkitEventBridge {
+
+    private static final BridgedHandler[] NO_HANDLERS = new BridgedHandler[0];
+
+    private final VulcanEventManager manager;
+    private final Consumer<String> log;
+
+    // Guarded by this
+    private final Map<ChannelKey, Channel> channels = new HashMap<>();
+
+    BukkitEventBridge(VulcanEventManager manager, Consumer<String> log) {
+        this.manager = manager;
+        this.log = log;
+    }
+
+    synchronized EventSubscription subscribe(Plugin plugin, Class<? extends Event> eventType, EventPriority priority,
+                                             boolean ignoreCancelled, Consumer<? super Event> handler) {
+        ChannelKey key = new ChannelKey(eventType, priority);
+        Channel channel = channels.get(key);
+        if (channel == null) {
+            channel = open(eventType, priority);
+            channels.put(key, channel);
+        }
+
+        BridgedHandler bridged = new BridgedHandler(plugin != null ? plugin.getName() : null, channel, handler, ignoreCancelled);
+        channel.add(bridged);
+        return bridged;
+    }
+
+    /**
+     * @return the number of handlers removed
+     */
+    synchronized int unregisterAll(Plugin plugin) {
+        String pluginName = plugin.getName();
+        int removed = 0;
+        Iterator<Channel> iterator = channels.values().iterator();
+        while (iterator.hasNext()) {
+            Channel channel = iterator.next();
+            for (BridgedHandler handler : channel.handlers) {
+                if (pluginName.equals(handler.pluginName) && channel.remove(handler)) removed++;
+            }
+            if (channel.handlers.length == 0) {
+                HandlerList.unregisterAll(channel);
+                iterator.remove();
+            }
+        }
+        return removed;
+    }
+
+    synchronized void clear() {
+        for (Channel channel : channels.values()) {
+            HandlerList.unregisterAll(channel);
+        }
+        channels.clear();
+    }
+
+    synchronized void collectHandlerStats(List<HandlerStats> stats) {
+        for (Channel channel : channels.values()) {
+            for (BridgedHandler handler : channel.handlers) {
+                stats.add(new HandlerStats(handler.name, "subscribeBukkit", channel.eventType.getSimpleName(),
+                        channel.priority, false, handler.breaker.isOpen(), handler.metrics.snapshot()));
+            }
+        }
+    }
+
+    synchronized void collectEventTypeStats(List<EventTypeStats> stats) {
+        for (Channel channel : channels.values()) {
+            LatencySnapshot latency = channel.metrics.snapshot();
+            if (latency.getCount() == 0) continue;
+            stats.add(new EventTypeStats(channel.eventType.getSimpleName() + " (Bukkit " + channel.priority + ")",
+                    channel.handlers.length, latency));
+        }
+    }
+
+    synchronized void resetMetrics() {
+        for (Channel channel : channels.values()) {
+            channel.metrics.reset();
+            for (BridgedHandler handler : channel.handlers) {
+                handler.metrics.reset();
+            }
+        }
+    }
+
+    synchronized void resetCircuitBreakers() {
+        for (Channel channel : channels.values()) {
+            for (BridgedHandler handler : channel.handlers) {
+                handler.breaker.reset();
+            }
+        }
+    }
+
+    private synchronized void close(BridgedHandler handler) {
+        Channel channel = handler.channel;
+        if (!channel.remove(handler) || channel.handlers.length != 0) return;
+
+        HandlerList.unregisterAll(channel);
+        channels.remove(new ChannelKey(channel.eventType, channel.priority));
+    }
+
+    private Channel open(Class<? extends Event> eventType, EventPriority priority) {
+        Plugin owner = VulcanAPI.getInstance();
+        if (owner == null) {
+            throw new IllegalStateException("Bukkit events can only be subscribed to while VulcanAPI is enabled");
+        }
+
+        // Registered as VulcanAPI, so the registration goes away with VulcanAPI even if a subscriber leaks
+        Channel channel = new Channel(eventType, priority);
+        Bukkit.getPluginManager().registerEvent(eventType, channel, org.bukkit.event.EventPriority.valueOf(priority.name()),
+                channel, owner, false);
+        return channel;
+    }
+
+    private void invoke(BridgedHandler handler, Event event) {
+        CircuitBreakerSettings breakerSettings = manager.getCircuitBreakerSettings();
+        if (breakerSettings.isEnabled() && !handler.breaker.allow()) return;
+
+        boolean recordLatency = manager.isMetricsEnabled();
+        boolean timed = recordLatency || breakerSettings.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        Throwable failure = null;
+
+        try {
+            handler.consumer.accept(event);
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        long elapsed = timed ? System.nanoTime() - start : 0L;
+        if (recordLatency) {
+            handler.metrics.record(elapsed);
+        }
+        handler.breaker.record(failure, elapsed, breakerSettings);
+    }
+
+    private final class Channel implements Listener, org.bukkit.plugin.EventExecutor {
+        private final Class<? extends Event> eventType;
+        private final EventPriority priority;
+        private final LatencyRecorder metrics = new LatencyRecorder();
+
+        // Copied on write, Bukkit may fire from any thread
+        private volatile BridgedHandler[] handlers = NO_HANDLERS;
+
+        private Channel(Class<? extends Event> eventType, EventPriority priority) {
+            this.eventType = eventType;
+            this.priority = priority;
+        }
+
+        // Must hold the bridge's monitor
+        private void add(BridgedHandler handler) {
+            BridgedHandler[] current = handlers;
+            BridgedHandler[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = handler;
+            handlers = updated;
+        }
+
+        // Must hold the bridge's monitor
+        private boolean remove(BridgedHandler handler) {
+            BridgedHandler[] current = handlers;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != handler) continue;
+
+                BridgedHandler[] updated = new BridgedHandler[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, updated.length - i);
+                handlers = updated;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void execute(Listener listener, Event event) {
+            // Sibling event classes can share one HandlerList, Bukkit does not filter for us
+            if (!eventType.isInstance(event)) return;
+
+            BridgedHandler[] current = handlers;
+            if (current.length == 0) return;
+
+            boolean timed = manager.isMetricsEnabled();
+            long start = timed ? System.nanoTime() : 0L;
+            boolean cancellable = event instanceof org.bukkit.event.Cancellable;
+
+            for (BridgedHandler handler : current) {
+                if (handler.ignoreCancelled && cancellable && ((org.bukkit.event.Cancellable) event).isCancelled()) continue;
+                invoke(handler, event);
+            }
+
+            if (timed) {
+                metrics.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private final class BridgedHandler implements EventSubscription {
+        // Only the name, so a subscription outliving its plugin does not pin the plugin's classloader
+        private final String pluginName;
+        private final Channel channel;
+        private final Consumer<? super Event> consumer;
+        private final boolean ignoreCancelled;
+        private final String name;
+        private final HandlerCircuitBreaker breaker;
+        private final LatencyRecorder metrics = new LatencyRecorder();
+
+        private BridgedHandler(String pluginName, Channel channel, Consumer<? super Event> consumer, boolean ignoreCancelled) {
+            this.pluginName = pluginName;
+            this.channel = channel;
+            this.consumer = consumer;
+            this.ignoreCancelled = ignoreCancelled;
+            this.name = consumer.getClass().getName();
+            this.breaker = new HandlerCircuitBreaker(consumer.getClass().getSimpleName() + "#subscribeBukkit", log);
+        }
+
+        @Override
+        public Class<? extends Event> getEventType() {
+            return channel.eventType;
+        }
+
+        @Override
+        public boolean isActive() {
+            for (BridgedHandler handler : channel.handlers) {
+                if (handler == this) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+            BukkitEventBridge.this.close(this);
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class ChannelKey {
+        private final Class<? extends Event> eventType;
+        private final EventPriority priority;
+    }
+}
@@ -1,5 +1,9 @@
 package net.vulcandev.vulcanapi.event;
 
+/**
+ * Marks a {@link VulcanEvent} that handlers can cancel. The state itself lives on {@link VulcanEvent}, so
+ * implementing classes need no field of their own.
+ */
 public interface Cancellable {
     boolean isCancelled();
     void setCancelled(boolean cancelled);
@@ -0,0 +1,30 @@
+package net.vulcandev.vulcanapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Limits after which a misbehaving handler is quarantined.
+ * A handler trips when, within one window, it has at least {@code minimumFailures} failures making up at least
+ * {@code failureRate} of its calls, or at least {@code slowCallThreshold} calls slower than {@code slowCallMillis}.
+ * It is then skipped for {@code baseBackoffMillis}, doubling on every trip in a row up to {@code maxBackoffMillis}.
+ */
+@Getter
+@AllArgsConstructor
+public final class CircuitBreakerSettings {
+    public static final CircuitBreakerSettings DEFAULTS = new CircuitBreakerSettings(
+            true, 30_000L, 5, 0.5, 50L, 20, 5_000L, 300_000L, 30_000L);
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int minimumFailures;
+    private final double failureRate;
+    private final long slowCallMillis;
+    private final int slowCallThreshold;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    /**
+     * Repeated errors from one handler are logged at most once per interval, with a count of the ones suppressed.
+     */
+    private final long errorLogIntervalMillis;
+}
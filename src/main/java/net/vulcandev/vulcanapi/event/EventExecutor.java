@@ -0,0 +1,25 @@
+package net.vulcandev.vulcanapi.event;
+
+/**
+ * Compiled call site for a single {@link EventHandler} method.
+ * Instances are created once per handler method at registration time and reused for every dispatch.
+ */
+@FunctionalInterface
+public interface EventExecutor {
+
+    /**
+     * Invokes the handler method on the given listener
+     * @param listener the listener instance owning the handler (ignored for static handlers)
+     * @param event the event being dispatched
+     */
+    void execute(VulcanListener listener, VulcanEvent event) throws Throwable;
+
+    /**
+     * Gets the executor for a handler method, compiling it on first use
+     * @param method the annotated handler method
+     * @return a direct executor for the method
+     */
+    static EventExecutor of(java.lang.reflect.Method method) {
+        return EventExecutorFactory.get(method);
+    }
+}
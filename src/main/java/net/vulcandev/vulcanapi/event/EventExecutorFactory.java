@@ -0,0 +1,192 @@
+package net.vulcandev.vulcanapi.event;
+
+import net.vulcandev.vulcanapi.VulcanAPI;
+import net.xantharddev.vulcanlib.Logger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Builds {@link EventExecutor}s for handler methods.
+ * Prefers a LambdaMetafactory generated class (Java 9+), then a bound MethodHandle (Java 8),
+ * and only falls back to plain reflection when neither can be created.
+ */
+final class EventExecutorFactory {
+
+    private static final MethodType EXECUTE_TYPE = MethodType.methodType(void.class, VulcanListener.class, VulcanEvent.class);
+    private static final MethodType BATCH_TYPE = MethodType.methodType(void.class, VulcanListener.class, List.class);
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    // Cached on the declaring class so the compiled executors live and die with the listener's classloader
+    // Values are EventExecutors or BatchEventExecutors, depending on the handler's parameter
+    private static final ClassValue<Map<Method, Object>> CACHE = new ClassValue<Map<Method, Object>>() {
+        @Override
+        protected Map<Method, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // Set once a class has logged a fallback, so a listener with many handlers logs it once
+    private static final ClassValue<AtomicBoolean> FALLBACK_LOGGED = new ClassValue<AtomicBoolean>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> type) {
+            return new AtomicBoolean();
+        }
+    };
+
+    private EventExecutorFactory() {}
+
+    static EventExecutor get(Method method) {
+        return (EventExecutor) CACHE.get(method.getDeclaringClass()).computeIfAbsent(method, EventExecutorFactory::create);
+    }
+
+    static BatchEventExecutor getBatch(Method method) {
+        return (BatchEventExecutor) CACHE.get(method.getDeclaringClass()).computeIfAbsent(method, EventExecutorFactory::createBatch);
+    }
+
+    private static EventExecutor create(Method method) {
+        makeAccessible(method);
+
+        if (canGenerate(method)) {
+            try {
+                return (EventExecutor) generate(method, EventExecutor.class, EXECUTE_TYPE);
+            } catch (ReflectiveOperationException | LambdaConversionException | RuntimeException e) {
+                logFallback(method, "method handles", e);
+            }
+        }
+
+        try {
+            return bind(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logFallback(method, "reflection", e);
+            return reflect(method);
+        }
+    }
+
+    private static BatchEventExecutor createBatch(Method method) {
+        makeAccessible(method);
+
+        if (canGenerate(method)) {
+            try {
+                return (BatchEventExecutor) generate(method, BatchEventExecutor.class, BATCH_TYPE);
+            } catch (ReflectiveOperationException | LambdaConversionException | RuntimeException e) {
+                logFallback(method, "method handles", e);
+            }
+        }
+
+        try {
+            return bindBatch(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logFallback(method, "reflection", e);
+            return reflectBatch(method);
+        }
+    }
+
+    // Java 8 has no private lookup into other classes, and static handlers have no receiver to generate for
+    private static boolean canGenerate(Method method) {
+        return PRIVATE_LOOKUP_IN != null && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static void logFallback(Method method, String fallback, Exception e) {
+        Class<?> owner = method.getDeclaringClass();
+        if (!FALLBACK_LOGGED.get(owner).compareAndSet(false, true)) return;
+
+        // privateLookupIn is called reflectively, its own failure is the cause
+        Throwable cause = e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+        Logger.log(VulcanAPI.getInstance(), "Event handlers in " + owner.getName() + " fall back to " + fallback + ": " + cause);
+    }
+
+    private static void makeAccessible(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException ignored) {
+            // Generated and handle based executors may still work through a private lookup
+        }
+    }
+
+    private static Object generate(Method method, Class<?> executorType, MethodType erasedType)
+            throws ReflectiveOperationException, LambdaConversionException {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, owner, MethodHandles.lookup());
+        MethodHandle target = lookup.unreflect(method);
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "execute",
+                MethodType.methodType(executorType),
+                erasedType,
+                target,
+                MethodType.methodType(void.class, owner, method.getParameterTypes()[0])
+        );
+
+        try {
+            return site.getTarget().invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // The factory takes no arguments and only allocates the executor
+            throw new IllegalStateException("Could not create the executor for " + method, e);
+        }
+    }
+
+    private static EventExecutor bind(Method method) throws IllegalAccessException {
+        MethodHandle handle = unreflect(method).asType(EXECUTE_TYPE);
+        return (listener, event) -> {
+            handle.invokeExact(listener, event);
+        };
+    }
+
+    private static BatchEventExecutor bindBatch(Method method) throws IllegalAccessException {
+        MethodHandle handle = unreflect(method).asType(BATCH_TYPE);
+        return (listener, events) -> {
+            handle.invokeExact(listener, (List) events);
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        MethodHandle target = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            target = MethodHandles.dropArguments(target, 0, VulcanListener.class);
+        }
+        return target;
+    }
+
+    private static EventExecutor reflect(Method method) {
+        return (listener, event) -> {
+            try {
+                method.invoke(listener, event);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static BatchEventExecutor reflectBatch(Method method) {
+        return (listener, events) -> {
+            try {
+                method.invoke(listener, events);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
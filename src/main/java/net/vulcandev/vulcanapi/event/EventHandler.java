@@ -10,4 +10,19 @@ import java.lang.annotation.Target;
 public @interface EventHandler {
     EventPriority priority() default EventPriority.NORMAL;
     boolean ignoreCancelled() default false;
+
+    /**
+     * Delivers the event on the VulcanAPI async worker pool instead of the calling thread.
+     * Only applies to events that are not {@link Cancellable}; handlers of cancellable events always run inline
+     * so they can still cancel. Events of one type are delivered to async handlers in the order they were fired.
+     */
+    boolean async() default false;
+
+    /**
+     * Only calls the handler for events carrying at least one of these {@link RoutingKey}s, written as
+     * {@code namespace:value}, for example {@code "check:KILLAURA"}, {@code "category:COMBAT"},
+     * {@code "tool:SHOVEL"} or {@code "player:<uuid>"}. The event type must implement {@link RoutableEvent}.
+     * Empty means every event of the type.
+     */
+    String[] keys() default {};
 }
@@ -0,0 +1,136 @@
+package net.vulcandev.vulcanapi.event;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of reusable {@link PooledEvent}s. {@link #acquire()} hands out an idle event or builds a new one,
+ * and the event's last {@link PooledEvent#release()} puts it back, emptied, once there is room. Events beyond
+ * the capacity are simply left to the garbage collector.
+ *
+ * <p>With leak detection on, released events are never handed out again, so a listener that kept one sees it
+ * emptied instead of silently reading another event's data, and the pool reports events that are kept after
+ * dispatch or never released. It costs a stack trace per event and is meant for test servers only.</p>
+ */
+public final class EventPool<T extends PooledEvent> {
+
+    private static final List<EventPool<?>> POOLS = new CopyOnWriteArrayList<>();
+    private static volatile boolean leakDetection;
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int capacity;
+    private final Supplier<T> factory;
+
+    // Guarded by this, used as a stack so the most recently released and cache-warm event goes out first
+    private final PooledEvent[] idle;
+    private int idleCount;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    public EventPool(String name, int capacity, Supplier<T> factory) {
+        this.name = name;
+        this.capacity = capacity;
+        this.factory = factory;
+        this.idle = new PooledEvent[capacity];
+        POOLS.add(this);
+    }
+
+    /**
+     * Gets an event to fill and fire. The caller owns one reference and must {@link PooledEvent#release()} it
+     * once dispatch is done.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        boolean detecting = leakDetection;
+        T event = null;
+
+        if (!detecting) {
+            synchronized (this) {
+                if (idleCount > 0) {
+                    event = (T) idle[--idleCount];
+                    idle[idleCount] = null;
+                }
+            }
+        }
+
+        if (event == null) {
+            event = factory.get();
+            event.pool = this;
+            created.increment();
+        } else {
+            event.reuse();
+            reused.increment();
+        }
+
+        if (detecting) {
+            PooledEventLeakDetector.track(event);
+        }
+        return event;
+    }
+
+    void recycle(PooledEvent event) {
+        event.clear();
+
+        PooledEventLeakDetector.Tracker tracker = event.tracker;
+        if (tracker != null) {
+            event.tracker = null;
+            tracker.released();
+            return;
+        }
+        if (leakDetection) return;
+
+        synchronized (this) {
+            if (idleCount < idle.length) {
+                idle[idleCount++] = event;
+            }
+        }
+    }
+
+    public synchronized int getIdleCount() {
+        return idleCount;
+    }
+
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    /**
+     * Empties the pool, for example after leak detection was turned on
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < idleCount; i++) {
+            idle[i] = null;
+        }
+        idleCount = 0;
+    }
+
+    public static List<EventPool<?>> getPools() {
+        return Collections.unmodifiableList(POOLS);
+    }
+
+    public static boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * Turns leak detection on or off for every pool. Idle events are dropped when it is turned on.
+     */
+    public static void setLeakDetection(boolean enabled) {
+        leakDetection = enabled;
+        if (enabled) {
+            POOLS.forEach(EventPool::clear);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.vulcandev.vulcanapi.event;
+
+/**
+ * Handle for a handler registered with {@link VulcanEventManager#subscribe(Class, EventPriority, boolean, java.util.function.Consumer)}
+ * or {@link VulcanEventManager#subscribeBukkit(Class, EventPriority, boolean, java.util.function.Consumer)}.
+ * Closing it removes the handler; closing it again does nothing.
+ */
+public interface EventSubscription extends AutoCloseable {
+
+    /**
+     * @return the subscribed {@link VulcanEvent} or Bukkit event class
+     */
+    Class<?> getEventType();
+
+    /**
+     * @return false once the subscription has been closed, or its owning plugin's listeners were unregistered
+     */
+    boolean isActive();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,32 @@
+package net.vulcandev.vulcanapi.event;
+
+/**
+ * Finds the {@link ListenerDispatcher} generated for a listener class, if its plugin was built with the processor.
+ * The result, including a miss, is cached on the listener class.
+ */
+final class GeneratedDispatchers {
+
+    private static final ClassValue<ListenerDispatcher> DISPATCHERS = new ClassValue<ListenerDispatcher>() {
+        @Override
+        protected ListenerDispatcher computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private GeneratedDispatchers() {}
+
+    static ListenerDispatcher find(Class<?> listenerClass) {
+        return DISPATCHERS.get(listenerClass);
+    }
+
+    private static ListenerDispatcher load(Class<?> listenerClass) {
+        try {
+            Class<?> generated = Class.forName(listenerClass.getName() + ListenerDispatcher.SUFFIX, true, listenerClass.getClassLoader());
+            if (!ListenerDispatcher.class.isAssignableFrom(generated)) return null;
+            return (ListenerDispatcher) generated.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Not generated, or generated against an incompatible API version: fall back to reflection
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package net.vulcandev.vulcanapi.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Per-handler failure tracking. The healthy path only reads a volatile and bumps a counter;
+ * everything else happens under the breaker's monitor, which is only taken on failures and slow calls.
+ */
+final class HandlerCircuitBreaker {
+
+    private final String handlerName;
+    private final Consumer<String> log;
+    private final LongAdder calls = new LongAdder();
+
+    // 0 while closed, otherwise the time the quarantine ends (Long.MAX_VALUE while a trial call is running)
+    private volatile long openUntil;
+    private volatile boolean trialRunning;
+
+    private long windowStart;
+    private long callsAtWindowStart;
+    private int windowFailures;
+    private int windowSlowCalls;
+    private long backoffMillis;
+    private int trips;
+
+    private long lastErrorLog;
+    private int suppressedErrors;
+
+    HandlerCircuitBreaker(String handlerName, Consumer<String> log) {
+        this.handlerName = handlerName;
+        this.log = log;
+    }
+
+    boolean isOpen() {
+        return openUntil != 0L;
+    }
+
+    /**
+     * @return false while the handler is quarantined
+     */
+    boolean allow() {
+        long until = openUntil;
+        if (until == 0L) return true;
+        if (until == Long.MAX_VALUE || System.currentTimeMillis() < until) return false;
+
+        synchronized (this) {
+            if (openUntil == 0L) return true;
+            if (openUntil == Long.MAX_VALUE || System.currentTimeMillis() < openUntil) return false;
+
+            // Half-open: let exactly one call through to see if the handler recovered
+            openUntil = Long.MAX_VALUE;
+            trialRunning = true;
+            return true;
+        }
+    }
+
+    void record(Throwable failure, long elapsedNanos, CircuitBreakerSettings settings) {
+        calls.increment();
+
+        boolean slow = settings.isEnabled() && settings.getSlowCallMillis() > 0
+                && elapsedNanos > TimeUnit.MILLISECONDS.toNanos(settings.getSlowCallMillis());
+        if (failure == null && !slow && !trialRunning) return;
+
+        synchronized (this) {
+            if (failure != null) {
+                logFailure(failure, settings);
+            }
+
+            // Settled before the enabled check, a trial left running would keep rejecting calls once re-enabled
+            if (trialRunning) {
+                trialRunning = false;
+                if (!settings.isEnabled()) {
+                    reset();
+                } else if (failure == null && !slow) {
+                    close();
+                } else {
+                    trip(settings, failure != null ? "failed again" : "was still slow");
+                }
+                return;
+            }
+
+            if (!settings.isEnabled()) return;
+
+            long now = System.currentTimeMillis();
+            long totalCalls = calls.sum();
+            if (now - windowStart > settings.getWindowMillis()) {
+                windowStart = now;
+                callsAtWindowStart = totalCalls - 1;
+                windowFailures = 0;
+                windowSlowCalls = 0;
+            }
+
+            if (failure != null) windowFailures++;
+            if (slow) windowSlowCalls++;
+
+            long windowCalls = Math.max(1L, totalCalls - callsAtWindowStart);
+            if (windowFailures >= settings.getMinimumFailures()
+                    && (double) windowFailures / windowCalls >= settings.getFailureRate()) {
+                trip(settings, windowFailures + " failures in " + windowCalls + " calls");
+            } else if (settings.getSlowCallThreshold() > 0 && windowSlowCalls >= settings.getSlowCallThreshold()) {
+                trip(settings, windowSlowCalls + " calls over " + settings.getSlowCallMillis() + "ms");
+            }
+        }
+    }
+
+    synchronized void reset() {
+        openUntil = 0L;
+        trialRunning = false;
+        windowStart = 0L;
+        windowFailures = 0;
+        windowSlowCalls = 0;
+        backoffMillis = 0L;
+        trips = 0;
+    }
+
+    private void trip(CircuitBreakerSettings settings, String reason) {
+        backoffMillis = backoffMillis == 0L
+                ? settings.getBaseBackoffMillis()
+                : Math.min(backoffMillis * 2, settings.getMaxBackoffMillis());
+        trips++;
+        windowStart = 0L;
+        openUntil = System.currentTimeMillis() + backoffMillis;
+
+        log.accept("Quarantined event handler " + handlerName + " for " + (backoffMillis / 1000.0) + "s: " + reason
+                + (trips > 1 ? " (trip " + trips + " in a row)" : ""));
+    }
+
+    private void close() {
+        openUntil = 0L;
+        backoffMillis = 0L;
+        trips = 0;
+        windowStart = 0L;
+        log.accept("Event handler " + handlerName + " recovered and is receiving events again");
+    }
+
+    private void logFailure(Throwable failure, CircuitBreakerSettings settings) {
+        long now = System.currentTimeMillis();
+        if (now - lastErrorLog < settings.getErrorLogIntervalMillis()) {
+            suppressedErrors++;
+            return;
+        }
+
+        String suppressed = suppressedErrors > 0 ? " (" + suppressedErrors + " similar errors suppressed)" : "";
+        lastErrorLog = now;
+        suppressedErrors = 0;
+
+        log.accept("Error executing event handler " + handlerName + ": " + failure + suppressed);
+        failure.printStackTrace();
+    }
+}
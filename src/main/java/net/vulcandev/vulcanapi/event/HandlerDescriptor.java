@@ -0,0 +1,26 @@
+package net.vulcandev.vulcanapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Everything {@link VulcanEventManager} needs to register one handler method, whether it was found
+ * by reflection or generated at build time by the {@code EventHandlerProcessor}.
+ */
+@Getter
+@AllArgsConstructor
+public final class HandlerDescriptor {
+    private final Class<? extends VulcanEvent> eventType;
+    private final String methodName;
+    private final EventPriority priority;
+    private final boolean ignoreCancelled;
+    private final boolean async;
+    private final String[] keys;
+    // Exactly one of the two executors is set, depending on whether the handler takes a single event or a List
+    private final EventExecutor executor;
+    private final BatchEventExecutor batchExecutor;
+
+    public boolean isBatch() {
+        return batchExecutor != null;
+    }
+}
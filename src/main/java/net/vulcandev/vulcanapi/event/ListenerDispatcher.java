@@ -0,0 +1,17 @@
+package net.vulcandev.vulcanapi.event;
+
+/**
+ * Build-time generated handler table for a {@link VulcanListener} class.
+ * The {@code EventHandlerProcessor} writes one implementation per listener, named after the listener's
+ * binary name plus {@link #SUFFIX}, and {@link VulcanEventManager} uses it instead of scanning the class reflectively.
+ */
+public interface ListenerDispatcher {
+
+    String SUFFIX = "_VulcanDispatcher";
+
+    /**
+     * Gets the handlers declared directly on the listener class
+     * @return one descriptor per {@link EventHandler} method
+     */
+    HandlerDescriptor[] getHandlers();
+}
@@ -0,0 +1,102 @@
+package net.vulcandev.vulcanapi.event;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Base for high-frequency events that the firing plugin reuses through an {@link EventPool} instead of
+ * allocating one per block or grind.
+ *
+ * <p>A pooled event belongs to its listeners only while it is being dispatched. Once {@code callEvent} returns,
+ * the firing plugin releases it and it can be handed out again with different contents, so listeners must not
+ * keep it. A listener that needs the event afterwards, for example to finish work on another thread, calls
+ * {@link #retain()} while handling it and {@link #release()} when done. Async and ordered dispatch retain the
+ * event for their handlers on their own.</p>
+ *
+ * <p>Events built with their public constructors are not pooled; retaining and releasing them is harmless.</p>
+ */
+public abstract class PooledEvent extends VulcanEvent {
+
+    private static final AtomicIntegerFieldUpdater<PooledEvent> REF_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(PooledEvent.class, "refCount");
+
+    private volatile int refCount = 1;
+
+    // Null for events built with a constructor
+    EventPool<?> pool;
+    // Only set while leak detection is on
+    PooledEventLeakDetector.Tracker tracker;
+
+    // Kept across uses of the instance, they only hold the key of the player it was last routed by
+    private final RoutingKey[] playerKeys = new RoutingKey[1];
+    private UUID routedPlayer;
+
+    /**
+     * Keeps the event from being reused until a matching {@link #release()}
+     * @return this event
+     * @throws IllegalStateException if the event has already been released
+     */
+    public final PooledEvent retain() {
+        for (;;) {
+            int count = refCount;
+            if (count <= 0) {
+                throw new IllegalStateException(getClass().getSimpleName() + " was retained after it was released");
+            }
+            if (REF_COUNT.compareAndSet(this, count, count + 1)) return this;
+        }
+    }
+
+    /**
+     * Gives up one reference. The last release returns a pooled event to its pool.
+     * @return true if this was the last reference
+     * @throws IllegalStateException if the event was released more often than it was retained
+     */
+    public final boolean release() {
+        for (;;) {
+            int count = refCount;
+            if (count <= 0) {
+                throw new IllegalStateException(getClass().getSimpleName() + " was released more often than it was retained");
+            }
+            if (!REF_COUNT.compareAndSet(this, count, count - 1)) continue;
+
+            if (count == 1 && pool != null) {
+                pool.recycle(this);
+            }
+            return count == 1;
+        }
+    }
+
+    public final int getRefCount() {
+        return refCount;
+    }
+
+    public final boolean isPooled() {
+        return pool != null;
+    }
+
+    /**
+     * Routing keys for an event routed by its player alone. The array and key are reused while the instance keeps
+     * being fired for the same player, so routing a pooled event allocates nothing in the common case. The array
+     * must not be modified.
+     * @param player the player, or null on an offline replay, in which case the array holds a null key
+     */
+    protected final RoutingKey[] playerRoutingKeys(UUID player) {
+        if (!Objects.equals(player, routedPlayer)) {
+            playerKeys[0] = RoutingKey.player(player);
+            routedPlayer = player;
+        }
+        return playerKeys;
+    }
+
+    /**
+     * Drops every reference the event holds, so an idle event does not keep players, blocks or Bukkit events alive
+     */
+    protected abstract void clear();
+
+    // Called by the pool before handing the event out again
+    final void reuse() {
+        reinitialize();
+        REF_COUNT.set(this, 1);
+    }
+}
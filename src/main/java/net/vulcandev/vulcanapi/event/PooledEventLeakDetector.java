@@ -0,0 +1,108 @@
+package net.vulcandev.vulcanapi.event;
+
+import net.vulcandev.vulcanapi.VulcanAPI;
+import net.xantharddev.vulcanlib.Logger;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Debug-only bookkeeping behind {@link EventPool#setLeakDetection(boolean)}. Every pooled event is followed with
+ * a weak reference: one that is collected before its last release was never released, and one that a garbage
+ * collection left alive well after its release is still held by a listener.
+ */
+final class PooledEventLeakDetector {
+
+    // Released events are only reported once they survived at least one collection for this long
+    private static final long KEPT_REPORT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int CHECK_INTERVAL = 256;
+
+    // Keeps the trackers reachable until their event is collected or reported
+    private static final Set<Tracker> TRACKERS = ConcurrentHashMap.newKeySet();
+    private static final ReferenceQueue<PooledEvent> COLLECTED = new ReferenceQueue<>();
+    private static final AtomicInteger ACQUIRES = new AtomicInteger();
+
+    private PooledEventLeakDetector() {}
+
+    static void track(PooledEvent event) {
+        Tracker tracker = new Tracker(event);
+        event.tracker = tracker;
+        TRACKERS.add(tracker);
+
+        if (ACQUIRES.incrementAndGet() % CHECK_INTERVAL == 0) {
+            check();
+        }
+    }
+
+    static void check() {
+        Tracker collected;
+        while ((collected = (Tracker) COLLECTED.poll()) != null) {
+            TRACKERS.remove(collected);
+            if (!collected.released) {
+                report(collected.eventName + " was garbage collected without being released. Acquired at:", collected.acquiredAt);
+            }
+        }
+
+        long now = System.nanoTime();
+        long collections = collectionCount();
+        for (Iterator<Tracker> iterator = TRACKERS.iterator(); iterator.hasNext(); ) {
+            Tracker tracker = iterator.next();
+            if (!tracker.released || now - tracker.releasedAt < KEPT_REPORT_NANOS
+                    || collections <= tracker.collectionsAtRelease) continue;
+
+            iterator.remove();
+            if (tracker.get() != null) {
+                report(tracker.eventName + " is still referenced " + TimeUnit.NANOSECONDS.toSeconds(now - tracker.releasedAt)
+                        + "s after it was released, a listener kept it without calling retain(). Acquired at:", tracker.acquiredAt);
+            }
+        }
+    }
+
+    private static void report(String message, Throwable site) {
+        StringBuilder builder = new StringBuilder("&c[EventPool] ").append(message);
+        int printed = 0;
+        for (StackTraceElement frame : site.getStackTrace()) {
+            // The pool's own frames say nothing about who acquired the event
+            if (frame.getClassName().startsWith(PooledEventLeakDetector.class.getName())
+                    || frame.getClassName().equals(EventPool.class.getName())) continue;
+
+            builder.append("\n    at ").append(frame);
+            if (++printed == 8) break;
+        }
+        Logger.log(VulcanAPI.getInstance(), builder.toString());
+    }
+
+    private static long collectionCount() {
+        long count = 0L;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    static final class Tracker extends WeakReference<PooledEvent> {
+        private final String eventName;
+        private final Throwable acquiredAt = new Throwable();
+        private volatile boolean released;
+        private volatile long releasedAt;
+        private volatile long collectionsAtRelease;
+
+        private Tracker(PooledEvent event) {
+            super(event, COLLECTED);
+            this.eventName = event.getClass().getSimpleName();
+        }
+
+        void released() {
+            collectionsAtRelease = collectionCount();
+            releasedAt = System.nanoTime();
+            released = true;
+        }
+    }
+}
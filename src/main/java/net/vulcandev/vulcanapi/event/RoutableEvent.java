@@ -0,0 +1,14 @@
+package net.vulcandev.vulcanapi.event;
+
+/**
+ * An event that exposes routing keys, so handlers registered with {@link EventHandler#keys()} can be skipped
+ * without being called when none of their keys match.
+ */
+public interface RoutableEvent {
+
+    /**
+     * Gets the keys this event can be routed by. Only called when keyed handlers exist for the event type
+     * @return the event's keys; entries may be null when a value is missing
+     */
+    RoutingKey[] getRoutingKeys();
+}
@@ -0,0 +1,90 @@
+package net.vulcandev.vulcanapi.event;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * A value an event can be routed by, such as the flagged player or the check that fired.
+ * Handlers subscribe with {@code @EventHandler(keys = "check:KILLAURA")} and are then only called for events
+ * whose {@link RoutableEvent#getRoutingKeys()} contain a matching key.
+ */
+public final class RoutingKey {
+    public static final String PLAYER = "player";
+    public static final String CHECK = "check";
+    public static final String CATEGORY = "category";
+    public static final String TOOL = "tool";
+
+    private final String namespace;
+    private final String value;
+    private final int hash;
+
+    private RoutingKey(String namespace, String value) {
+        this.namespace = namespace;
+        this.value = value;
+        this.hash = 31 * namespace.hashCode() + value.hashCode();
+    }
+
+    /**
+     * Creates a key. Enum values are keyed by constant name, UUIDs by their canonical lower-case form
+     * @param namespace one of the namespace constants, or a plugin-specific one
+     * @param value the value to route by
+     * @return the key, or null if the value is null
+     */
+    public static RoutingKey of(String namespace, Object value) {
+        if (value == null) return null;
+
+        String text = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+        return new RoutingKey(namespace.toLowerCase(Locale.ROOT), text);
+    }
+
+    public static RoutingKey player(UUID uuid) {
+        return of(PLAYER, uuid);
+    }
+
+    /**
+     * Parses the {@code namespace:value} form used in {@link EventHandler#keys()}
+     * @throws IllegalArgumentException if the text has no namespace
+     */
+    public static RoutingKey parse(String text) {
+        int separator = text.indexOf(':');
+        if (separator <= 0 || separator == text.length() - 1) {
+            throw new IllegalArgumentException("Routing key must look like namespace:value, got '" + text + "'");
+        }
+
+        String namespace = text.substring(0, separator).trim();
+        String value = text.substring(separator + 1).trim();
+        try {
+            value = UUID.fromString(value).toString();
+        } catch (IllegalArgumentException notUuid) {
+            // Enum names and plain values are matched as written
+        }
+        return new RoutingKey(namespace.toLowerCase(Locale.ROOT), value);
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof RoutingKey)) return false;
+
+        RoutingKey key = (RoutingKey) other;
+        return hash == key.hash && namespace.equals(key.namespace) && value.equals(key.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return namespace + ":" + value;
+    }
+}
@@ -0,0 +1,92 @@
+package net.vulcandev.vulcanapi.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed set of single-threaded workers with bounded queues. Tasks submitted with the same key always
+ * land on the same worker, so they run one at a time and in submission order.
+ */
+final class StripedExecutor {
+
+    private final ThreadPoolExecutor[] stripes;
+    private final AsyncOverflowPolicy overflowPolicy;
+
+    StripedExecutor(String name, int workers, int queueCapacity, AsyncOverflowPolicy overflowPolicy) {
+        int count = Math.max(1, workers);
+        int capacity = Math.max(1, queueCapacity);
+        this.stripes = new ThreadPoolExecutor[count];
+        this.overflowPolicy = overflowPolicy;
+
+        for (int i = 0; i < count; i++) {
+            String threadName = name + "-" + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(capacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    /**
+     * @return false if the task was dropped because the worker queue was full
+     */
+    boolean execute(Object key, Runnable task) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        ThreadPoolExecutor stripe = stripes[Math.floorMod(hash, stripes.length)];
+
+        try {
+            stripe.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (overflowPolicy == AsyncOverflowPolicy.CALLER_RUNS && !stripe.isShutdown()) {
+                task.run();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    int getQueuedCount() {
+        int queued = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            queued += stripe.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * Stops accepting tasks and lets the workers finish what is already queued in the background.
+     */
+    private void stopAccepting() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+
+    boolean isStopped() {
+        return stripes[0].isShutdown();
+    }
+
+    void shutdown(long timeoutMillis) {
+        stopAccepting();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (ThreadPoolExecutor stripe : stripes) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !stripe.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    stripe.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package net.vulcandev.vulcanapi.event;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 public abstract class VulcanEvent {
+    // The one cancellation flag for every event; subclasses implementing Cancellable use it instead of their own
     private boolean cancelled = false;
-    private final long timestamp = System.currentTimeMillis();
+    @Setter(AccessLevel.NONE)
+    private long timestamp = System.currentTimeMillis();
 
     public abstract boolean isCancellable();
+
+    /**
+     * Puts back the time an event was originally fired, for events rebuilt from a record such as the event journal
+     */
+    public void restoreTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    // Pooled events are reused, so each use starts over as if newly constructed
+    void reinitialize() {
+        cancelled = false;
+        timestamp = System.currentTimeMillis();
+    }
 }
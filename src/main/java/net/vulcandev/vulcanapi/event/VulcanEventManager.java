@@ -2,18 +2,98 @@ package net.vulcandev.vulcanapi.event;
 
 import lombok.AllArgsConstructor;
 import net.vulcandev.vulcanapi.VulcanAPI;
+import net.vulcandev.vulcanapi.event.metrics.EventTypeStats;
+import net.vulcandev.vulcanapi.event.metrics.HandlerStats;
+import net.vulcandev.vulcanapi.event.metrics.LatencyRecorder;
+import net.vulcandev.vulcanapi.scheduler.MainThreadQueue;
 import net.xantharddev.vulcanlib.Logger;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 public class VulcanEventManager {
 
+    private static final RegisteredListener[] NO_HANDLERS = new RegisteredListener[0];
+    private static final RoutingKey[] NO_KEYS = new RoutingKey[0];
+    private static final DispatchPlan NO_PLAN = new DispatchPlan(NO_HANDLERS, NO_HANDLERS, null, null, 0, false, new LatencyRecorder());
+    private static final long ASYNC_SHUTDOWN_TIMEOUT_MS = 2000L;
+    private static final long DROP_WARNING_INTERVAL_MS = 10000L;
+
+    private static final Comparator<RegisteredListener> DISPATCH_ORDER = (a, b) -> {
+        int byPriority = Integer.compare(b.priority.getPriority(), a.priority.getPriority());
+        return byPriority != 0 ? byPriority : Long.compare(a.order, b.order);
+    };
+
+    // Each list is kept in dispatch order by inserting at the sorted position
     private final Map<Class<? extends VulcanEvent>, List<RegisteredListener>> listeners = new ConcurrentHashMap<>();
 
+    // Ownership indexes so unregistering touches only the handlers being removed; guarded by lock
+    private final Map<VulcanListener, List<RegisteredListener>> byListener = new IdentityHashMap<>();
+    // Keyed by plugin name, so weak registrations never pin the plugin or its classloader
+    private final Map<String, Set<VulcanListener>> byPlugin = new HashMap<>();
+
+    // Baked per concrete event class: supertype subscriptions merged in and sorted, dropped whenever listeners change
+    private final Map<Class<?>, DispatchPlan> dispatchTable = new ConcurrentHashMap<>();
+
+    // Kept apart from the dispatch table so per-type figures survive listener changes
+    private final Map<Class<?>, LatencyRecorder> eventMetrics = new ConcurrentHashMap<>();
+    private volatile boolean metricsEnabled = true;
+    private volatile CircuitBreakerSettings circuitBreakerSettings = CircuitBreakerSettings.DEFAULTS;
+
+    // Weak registrations whose listener has been collected, expunged under the lock
+    private final ReferenceQueue<VulcanListener> staleListeners = new ReferenceQueue<>();
+    // Weak registrations by the listener they wrap, so unregistering one is a lookup; guarded by lock
+    private final Map<WeakListener, WeakListener> weakListeners = new HashMap<>();
+
+    private final Object lock = new Object();
+    private final AtomicLong registrationOrder = new AtomicLong();
+
+    private volatile int asyncWorkers = 2;
+    private volatile int asyncQueueCapacity = 4096;
+    private volatile AsyncOverflowPolicy asyncOverflowPolicy = AsyncOverflowPolicy.DISCARD;
+    private volatile StripedExecutor asyncExecutor;
+    private final LongAdder droppedAsyncEvents = new LongAdder();
+    private final AtomicLong lastDropWarning = new AtomicLong();
+
+    // Per-player serial workers for callEventOrdered, striped by UUID
+    private volatile int orderedWorkers = 4;
+    private volatile int orderedQueueCapacity = 4096;
+    private volatile AsyncOverflowPolicy orderedOverflowPolicy = AsyncOverflowPolicy.DISCARD;
+    private volatile StripedExecutor orderedExecutor;
+    private final LongAdder droppedOrderedEvents = new LongAdder();
+    private final AtomicLong lastOrderedDropWarning = new AtomicLong();
+
+    // Taken only to start or replace a pool, so a swap never blocks dispatch to the running one
+    private final Object asyncSwapLock = new Object();
+    private final Object orderedSwapLock = new Object();
+
+    private final AtomicLong lastRoutingWarning = new AtomicLong();
+
+    private final BukkitEventBridge bukkitBridge = new BukkitEventBridge(this, this::log);
+
     private VulcanEventManager() {}
 
     private static final class InstanceHolder {
@@ -29,70 +109,513 @@ public class VulcanEventManager {
     }
 
     public void registerListener(VulcanListener listener) {
+        registerListener(findOwningPlugin(listener), listener);
+    }
+
+    /**
+     * Registers a listener on behalf of a plugin, so it can later be removed with {@link #unregisterAll(Plugin)}
+     * @param plugin the owning plugin, or null if the listener has no owner
+     * @param listener the listener to register
+     */
+    public void registerListener(Plugin plugin, VulcanListener listener) {
+        register(plugin, listener, false);
+    }
+
+    /**
+     * Registers a listener without keeping it alive. Once nothing else references the listener it is garbage
+     * collected and its handlers are removed, so a plugin that reloads without unregistering does not pin its
+     * classloader. The owning plugin is only remembered by name. The caller must hold on to the listener for as
+     * long as it should receive events.
+     * @param listener the listener to register
+     */
+    public void registerWeakListener(VulcanListener listener) {
+        register(findOwningPlugin(listener), listener, true);
+    }
+
+    /**
+     * Registers a listener weakly on behalf of a plugin
+     * @see #registerWeakListener(VulcanListener)
+     */
+    public void registerWeakListener(Plugin plugin, VulcanListener listener) {
+        register(plugin, listener, true);
+    }
+
+    private void register(Plugin plugin, VulcanListener listener, boolean weak) {
         Class<?> clazz = listener.getClass();
+        String pluginName = plugin != null ? plugin.getName() : null;
 
-        for (Method method : clazz.getDeclaredMethods()) {
-            EventHandler annotation = method.getAnnotation(EventHandler.class);
-            if (annotation == null) continue;
+        synchronized (lock) {
+            expungeStaleListeners();
 
-            Class<?>[] params = method.getParameterTypes();
-            if (params.length != 1 || !VulcanEvent.class.isAssignableFrom(params[0])) {
-                log("Invalid event handler: " + method.getName() + " in " + clazz.getSimpleName());
-                continue;
+            // Weak registrations are indexed by their reference, so neither index holds the listener itself
+            VulcanListener key = weak ? weakKey(listener) : listener;
+            List<RegisteredListener> owned = byListener.computeIfAbsent(key, k -> new ArrayList<>());
+
+            for (HandlerDescriptor handler : findHandlers(clazz)) {
+                RoutingKey[] keys = parseKeys(clazz, handler);
+                if (keys == null) continue;
+
+                RegisteredListener regListener = new RegisteredListener(
+                        key, pluginName, handler.getEventType(), handler.getMethodName(),
+                        weak ? weaken(handler.getExecutor()) : handler.getExecutor(),
+                        weak ? weakenBatch(handler.getBatchExecutor()) : handler.getBatchExecutor(), handler.getPriority(), handler.isIgnoreCancelled(), handler.isAsync(), keys, registrationOrder.getAndIncrement(),
+                        new HandlerCircuitBreaker(clazz.getSimpleName() + "#" + handler.getMethodName(), this::log)
+                );
+
+                insertSorted(listeners.computeIfAbsent(handler.getEventType(), k -> new CopyOnWriteArrayList<>()), regListener);
+                owned.add(regListener);
             }
 
-            @SuppressWarnings("unchecked")
-            Class<? extends VulcanEvent> eventType = (Class<? extends VulcanEvent>) params[0];
+            if (pluginName != null) {
+                byPlugin.computeIfAbsent(pluginName, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(key);
+            }
+
+            dispatchTable.clear();
+        }
+
+        log("Registered " + (weak ? "weak " : "") + "listener: " + clazz.getSimpleName());
+    }
 
-            RegisteredListener regListener = new RegisteredListener(
-                    listener, method, annotation.priority(), annotation.ignoreCancelled()
-            );
+    /**
+     * Registers a single handler without a listener class. Nothing is scanned: the handler goes straight into
+     * the dispatch table, and only the dispatch plans of its event type and subtypes are rebuilt. This makes
+     * subscriptions cheap to add and close at runtime, for example for the length of a tool event.
+     * The owning plugin is the one whose classloader defined the handler.
+     * @param eventType the event type, subtypes included
+     * @param priority where the handler runs relative to other handlers
+     * @param ignoreCancelled skip the handler for events that are already cancelled
+     * @param handler the handler
+     * @return a handle that removes the handler when closed
+     */
+    public <T extends VulcanEvent> EventSubscription subscribe(Class<T> eventType, EventPriority priority, boolean ignoreCancelled,
+                                                               Consumer<? super T> handler) {
+        return subscribe(findOwningPlugin(handler), eventType, priority, ignoreCancelled, handler);
+    }
+
+    /**
+     * Registers a single handler on behalf of a plugin, so it is also removed by {@link #unregisterAll(Plugin)}
+     * @see #subscribe(Class, EventPriority, boolean, Consumer)
+     */
+    public <T extends VulcanEvent> EventSubscription subscribe(Plugin plugin, Class<T> eventType, EventPriority priority,
+                                                               boolean ignoreCancelled, Consumer<? super T> handler) {
+        Subscription subscription = new Subscription(eventType, handler.getClass().getName());
+        @SuppressWarnings("unchecked")
+        Consumer<VulcanEvent> consumer = (Consumer<VulcanEvent>) handler;
 
-            listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(regListener);
+        RegisteredListener registered = new RegisteredListener(
+                subscription, plugin != null ? plugin.getName() : null, eventType, "subscribe", (listener, event) -> consumer.accept(event), null,
+                priority, ignoreCancelled, false, NO_KEYS, registrationOrder.getAndIncrement(),
+                new HandlerCircuitBreaker(handler.getClass().getSimpleName() + "#subscribe", this::log)
+        );
 
-            listeners.get(eventType).sort((a, b) ->
-                    Integer.compare(b.priority.getPriority(), a.priority.getPriority()));
+        synchronized (lock) {
+            expungeStaleListeners();
+            insertSorted(listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()), registered);
+            byListener.put(subscription, new ArrayList<>(Collections.singletonList(registered)));
+            if (plugin != null) {
+                byPlugin.computeIfAbsent(plugin.getName(), k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(subscription);
+            }
+            invalidate(eventType);
         }
+        return subscription;
+    }
 
-        log("Registered listener: " + clazz.getSimpleName());
+    /**
+     * Subscribes a single handler to a Bukkit event, so plugins that handle both kinds of event can do it through
+     * one bus. Each event class and priority is registered with Bukkit once and shared by every handler, the event
+     * is passed to the handler as is, and the handler shows up in {@link #getHandlerStats()} and is quarantined
+     * like any other. Bukkit events keep Bukkit's order, {@link EventPriority#LOWEST} first and
+     * {@link EventPriority#MONITOR} last. Requires VulcanAPI to be enabled.
+     * @param eventType the Bukkit event class, which must declare its own HandlerList or inherit one
+     * @param priority where the handler runs relative to other handlers of the event
+     * @param ignoreCancelled skip the handler for events that are already cancelled
+     * @param handler the handler
+     * @return a handle that removes the handler when closed
+     */
+    public <T extends org.bukkit.event.Event> EventSubscription subscribeBukkit(Class<T> eventType, EventPriority priority,
+                                                                                boolean ignoreCancelled, Consumer<? super T> handler) {
+        return subscribeBukkit(findOwningPlugin(handler), eventType, priority, ignoreCancelled, handler);
+    }
+
+    /**
+     * Subscribes a handler to a Bukkit event on behalf of a plugin, so it is also removed by {@link #unregisterAll(Plugin)}
+     * @see #subscribeBukkit(Class, EventPriority, boolean, Consumer)
+     */
+    public <T extends org.bukkit.event.Event> EventSubscription subscribeBukkit(Plugin plugin, Class<T> eventType, EventPriority priority,
+                                                                                boolean ignoreCancelled, Consumer<? super T> handler) {
+        @SuppressWarnings("unchecked")
+        Consumer<org.bukkit.event.Event> consumer = (Consumer<org.bukkit.event.Event>) handler;
+        return bukkitBridge.subscribe(plugin, eventType, priority, ignoreCancelled, consumer);
     }
 
     public void unregisterListener(VulcanListener listener) {
-        listeners.values().forEach(list ->
-                list.removeIf(registered -> registered.listener == listener));
+        synchronized (lock) {
+            expungeStaleListeners();
+            if (!removeListener(listener) && !removeListener(weakListeners.get(new WeakListener(listener, null)))) return;
+            dispatchTable.clear();
+        }
 
         log("Unregistered listener: " + listener.getClass().getSimpleName());
     }
 
+    /**
+     * Unregisters every listener owned by a plugin
+     * @param plugin the owning plugin
+     * @return the number of listeners removed
+     */
+    public int unregisterAll(Plugin plugin) {
+        int removed = bukkitBridge.unregisterAll(plugin);
+
+        synchronized (lock) {
+            expungeStaleListeners();
+            Set<VulcanListener> owned = byPlugin.remove(plugin.getName());
+            if (owned != null) {
+                for (VulcanListener listener : owned) {
+                    if (removeListener(listener)) removed++;
+                }
+                dispatchTable.clear();
+            }
+        }
+
+        if (removed > 0) {
+            log("Unregistered " + removed + " listeners owned by " + plugin.getName());
+        }
+        return removed;
+    }
+
     public boolean callEvent(VulcanEvent event) {
-        List<RegisteredListener> eventListeners = listeners.get(event.getClass());
-        if (eventListeners == null) return false;
+        DispatchPlan plan = getPlan(event.getClass());
+        RegisteredListener[] async = plan.async;
+        RegisteredListener[] handlers = plan.sync;
 
-        for (RegisteredListener listener : eventListeners) {
-            if (event instanceof Cancellable && ((Cancellable) event).isCancelled()
-                    && listener.ignoreCancelled) {
-                continue;
+        if (event instanceof RoutableEvent && (plan.keyedSync != null || plan.keyedAsync != null)) {
+            RoutingKey[] keys = routingKeys((RoutableEvent) event);
+            async = route(async, plan.keyedAsync, keys);
+            handlers = route(handlers, plan.keyedSync, keys);
+        }
+
+        boolean timed = metricsEnabled;
+        if (handlers.length == 0) {
+            if (async.length == 0) return false;
+
+            // Async only event types still count every dispatch, timed over queueing the handlers
+            long start = timed ? System.nanoTime() : 0L;
+            dispatchAsync(async, event);
+            if (timed) {
+                plan.metrics.record(System.nanoTime() - start);
+            }
+            return false;
+        }
+
+        long start = timed ? System.nanoTime() : 0L;
+
+        if (plan.cancellable) {
+            dispatchCancellable(handlers, event);
+        } else {
+            for (RegisteredListener listener : handlers) {
+                invoke(listener, event);
             }
+        }
+
+        if (timed) {
+            plan.metrics.record(System.nanoTime() - start);
+        }
 
+        // Queued last so async handlers observe whatever the synchronous ones changed
+        if (async.length != 0) {
+            dispatchAsync(async, event);
+        }
+
+        return plan.cancellable && event.isCancelled();
+    }
+
+    // A cancel by anything but a MONITOR handler stops the event from reaching the remaining handlers
+    private void dispatchCancellable(RegisteredListener[] handlers, VulcanEvent event) {
+        for (RegisteredListener listener : handlers) {
+            if (listener.ignoreCancelled && event.isCancelled()) continue;
+
+            invoke(listener, event);
+
+            if (event.isCancelled() && listener.priority != EventPriority.MONITOR) break;
+        }
+    }
+
+    /**
+     * Fires an event on the calling player's serial worker instead of the current thread. Events fired for the
+     * same player are handled one at a time in the order they were fired, while different players are handled
+     * in parallel. Meant for events raised off the main thread, such as from packet handling; handlers that
+     * touch the Bukkit API should hop back with {@link #runOnMainThread(Runnable)}.
+     * @param playerId the player the event belongs to, used to pick the worker
+     * @param event the event to fire
+     * @return completes with whether the event was cancelled once every handler has run, or exceptionally
+     * with a {@link RejectedExecutionException} if the player's worker queue was full
+     * @throws IllegalArgumentException if the player is null
+     */
+    public CompletableFuture<Boolean> callEventOrdered(UUID playerId, VulcanEvent event) {
+        // Checked before the event is retained, a null key would fail inside the executor and leak a pooled event
+        if (playerId == null) {
+            throw new IllegalArgumentException("Ordered events need a player, got null for " + event.getClass().getSimpleName());
+        }
+
+        StripedExecutor executor = orderedExecutor;
+        if (executor == null) {
+            executor = startOrderedExecutor();
+        }
+
+        // The caller may release a pooled event as soon as this returns, so the worker holds its own reference
+        retain(event);
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        Runnable task = () -> {
             try {
-                listener.method.setAccessible(true);
-                listener.method.invoke(listener.listener, event);
-            } catch (Exception e) {
-                log("Error executing event handler: " + e.getMessage());
-                e.printStackTrace();
+                result.complete(callEvent(event));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                release(event);
+            }
+        };
+        boolean accepted = executor.execute(playerId, task);
+        // Picked up a pool configureOrdered was replacing, the task belongs on its successor
+        while (!accepted && executor.isStopped() && orderedExecutor != executor) {
+            executor = startOrderedExecutor();
+            accepted = executor.execute(playerId, task);
+        }
+
+        if (!accepted) {
+            release(event);
+            droppedOrderedEvents.increment();
+            long now = System.currentTimeMillis();
+            long last = lastOrderedDropWarning.get();
+            if (now - last >= DROP_WARNING_INTERVAL_MS && lastOrderedDropWarning.compareAndSet(last, now)) {
+                log("Ordered event queue full, dropped " + event.getClass().getSimpleName()
+                        + " (" + getDroppedOrderedEvents() + " dropped in total)");
+            }
+            result.completeExceptionally(new RejectedExecutionException("Ordered event queue full"));
+        }
+        return result;
+    }
+
+    /**
+     * Runs work on the main thread through the shared {@link MainThreadQueue}, which drains once per tick
+     * in submission order, so handlers on worker threads can touch the Bukkit API without one task per event.
+     * @param task the work to run on the main thread
+     */
+    public void runOnMainThread(Runnable task) {
+        MainThreadQueue.getInstance().submit(task);
+    }
+
+    /**
+     * Fires several events at once. Consecutive events of the same class share one dispatch, and each handler
+     * is called for the whole run before the next handler, so a handler declared as
+     * {@code void onBreaks(List<MinerBreakEvent> events)} receives the run in a single call.
+     * An event that is cancelled stops reaching later handlers, just as with {@link #callEvent(VulcanEvent)}.
+     * @param events the events to fire, in order
+     * @return how many of the events are cancelled after dispatch
+     */
+    public int callEvents(List<? extends VulcanEvent> events) {
+        int cancelled = 0;
+        int size = events.size();
+
+        for (int start = 0, end; start < size; start = end) {
+            Class<?> eventClass = events.get(start).getClass();
+            end = start + 1;
+            while (end < size && events.get(end).getClass() == eventClass) end++;
+
+            List<VulcanEvent> run = Collections.unmodifiableList(new ArrayList<>(events.subList(start, end)));
+            cancelled += dispatchRun(getPlan(eventClass), run);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Checks whether dispatching an event of this type would reach any handler, including handlers
+     * registered for its supertypes. Producers can use this to skip building the event entirely.
+     * @param eventClass the concrete event class that would be fired
+     * @return true if at least one handler would receive the event
+     */
+    public boolean hasListeners(Class<? extends VulcanEvent> eventClass) {
+        return getPlan(eventClass).handlerCount != 0;
+    }
+
+    /**
+     * Sizes the worker pool used by {@code @EventHandler(async = true)} handlers. A running pool is replaced once
+     * the events already queued on it have been delivered, for up to two seconds, so an event type's events stay in
+     * order across the swap. Events fired meanwhile wait for the new pool, which blocks the calling thread.
+     * @param workers number of worker threads, each owning a share of the event types
+     * @param queueCapacity maximum queued events per worker
+     * @param overflowPolicy what happens to an event when its worker queue is full
+     */
+    public void configureAsync(int workers, int queueCapacity, AsyncOverflowPolicy overflowPolicy) {
+        synchronized (asyncSwapLock) {
+            this.asyncWorkers = Math.max(1, workers);
+            this.asyncQueueCapacity = Math.max(1, queueCapacity);
+            this.asyncOverflowPolicy = overflowPolicy == null ? AsyncOverflowPolicy.DISCARD : overflowPolicy;
+
+            // Submissions find no pool and wait in startAsyncExecutor until the old one has drained
+            StripedExecutor previous = asyncExecutor;
+            asyncExecutor = null;
+            if (previous != null) {
+                previous.shutdown(ASYNC_SHUTDOWN_TIMEOUT_MS);
+            }
+        }
+    }
+
+    /**
+     * Sizes the per-player worker pool used by {@link #callEventOrdered(UUID, VulcanEvent)}. A running pool is
+     * replaced once the events already queued on it have been delivered, for up to two seconds, so each player's
+     * events stay in order across the swap. Events fired meanwhile wait for the new pool, which blocks the calling
+     * thread.
+     * @param workers number of worker threads, each owning a share of the players
+     * @param queueCapacity maximum queued events per worker
+     * @param overflowPolicy what happens to an event when its worker queue is full; CALLER_RUNS fires it
+     *                       on the calling thread, outside the player's order
+     */
+    public void configureOrdered(int workers, int queueCapacity, AsyncOverflowPolicy overflowPolicy) {
+        synchronized (orderedSwapLock) {
+            this.orderedWorkers = Math.max(1, workers);
+            this.orderedQueueCapacity = Math.max(1, queueCapacity);
+            this.orderedOverflowPolicy = overflowPolicy == null ? AsyncOverflowPolicy.DISCARD : overflowPolicy;
+
+            // Submissions find no pool and wait in startOrderedExecutor until the old one has drained
+            StripedExecutor previous = orderedExecutor;
+            orderedExecutor = null;
+            if (previous != null) {
+                previous.shutdown(ASYNC_SHUTDOWN_TIMEOUT_MS);
             }
+        }
+    }
+
+    public long getDroppedOrderedEvents() {
+        return droppedOrderedEvents.sum();
+    }
 
-            if (event instanceof Cancellable && ((Cancellable) event).isCancelled()
-                    && listener.priority != EventPriority.MONITOR) {
-                break;
+    public int getPendingOrderedEvents() {
+        StripedExecutor executor = orderedExecutor;
+        return executor == null ? 0 : executor.getQueuedCount();
+    }
+
+    public long getDroppedAsyncEvents() {
+        return droppedAsyncEvents.sum();
+    }
+
+    public int getPendingAsyncEvents() {
+        StripedExecutor executor = asyncExecutor;
+        return executor == null ? 0 : executor.getQueuedCount();
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Turns handler and event type timing on or off. Counters are kept when disabled.
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * Gets invocation figures for every registered handler, slowest in total first
+     * @return a snapshot of all handler statistics
+     */
+    public List<HandlerStats> getHandlerStats() {
+        List<HandlerStats> stats = new ArrayList<>();
+        for (Map.Entry<Class<? extends VulcanEvent>, List<RegisteredListener>> entry : listeners.entrySet()) {
+            for (RegisteredListener listener : entry.getValue()) {
+                stats.add(new HandlerStats(
+                        nameOf(listener.listener),
+                        listener.methodName,
+                        entry.getKey().getSimpleName(),
+                        listener.priority,
+                        listener.async,
+                        listener.breaker.isOpen(),
+                        listener.metrics.snapshot()
+                ));
             }
         }
+        bukkitBridge.collectHandlerStats(stats);
 
-        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        stats.sort((a, b) -> Long.compare(b.getLatency().getTotalNanos(), a.getLatency().getTotalNanos()));
+        return stats;
+    }
+
+    /**
+     * Gets dispatch figures for every event class that has been fired with handlers attached, busiest first
+     * @return a snapshot of all event type statistics
+     */
+    public List<EventTypeStats> getEventTypeStats() {
+        List<EventTypeStats> stats = new ArrayList<>();
+        for (Map.Entry<Class<?>, LatencyRecorder> entry : eventMetrics.entrySet()) {
+            DispatchPlan plan = getPlan(entry.getKey());
+            stats.add(new EventTypeStats(
+                    entry.getKey().getSimpleName(),
+                    plan.handlerCount,
+                    entry.getValue().snapshot()
+            ));
+        }
+        bukkitBridge.collectEventTypeStats(stats);
+
+        stats.sort((a, b) -> Long.compare(b.getLatency().getCount(), a.getLatency().getCount()));
+        return stats;
+    }
+
+    public CircuitBreakerSettings getCircuitBreakerSettings() {
+        return circuitBreakerSettings;
+    }
+
+    /**
+     * Replaces the limits used to quarantine failing or slow handlers. Handlers already quarantined keep their current back-off.
+     */
+    public void setCircuitBreakerSettings(CircuitBreakerSettings settings) {
+        this.circuitBreakerSettings = settings == null ? CircuitBreakerSettings.DEFAULTS : settings;
+    }
+
+    /**
+     * Lifts the quarantine of every handler and forgets their failure history.
+     */
+    public void resetCircuitBreakers() {
+        for (List<RegisteredListener> list : listeners.values()) {
+            for (RegisteredListener listener : list) {
+                listener.breaker.reset();
+            }
+        }
+        bukkitBridge.resetCircuitBreakers();
+    }
+
+    public void resetMetrics() {
+        eventMetrics.values().forEach(LatencyRecorder::reset);
+        for (List<RegisteredListener> list : listeners.values()) {
+            for (RegisteredListener listener : list) {
+                listener.metrics.reset();
+            }
+        }
+        bukkitBridge.resetMetrics();
     }
 
     public void shutdown() {
-        listeners.clear();
+        bukkitBridge.clear();
+
+        // Queued ordered events still reach their handlers and may queue async deliveries, so the ordered pool
+        // drains first, then the async pool, and the listeners are only cleared once both are done. The pools
+        // stay published while draining, so late submissions are rejected instead of starting new ones
+        StripedExecutor ordered = orderedExecutor;
+        if (ordered != null) {
+            ordered.shutdown(ASYNC_SHUTDOWN_TIMEOUT_MS);
+        }
+        StripedExecutor executor = asyncExecutor;
+        if (executor != null) {
+            executor.shutdown(ASYNC_SHUTDOWN_TIMEOUT_MS);
+        }
+
+        synchronized (lock) {
+            listeners.clear();
+            byListener.clear();
+            weakListeners.clear();
+            byPlugin.clear();
+            dispatchTable.clear();
+            if (asyncExecutor == executor) asyncExecutor = null;
+            if (orderedExecutor == ordered) orderedExecutor = null;
+        }
         log("Event manager shutdown - all listeners cleared");
     }
 
@@ -107,11 +630,578 @@ public class VulcanEventManager {
                 .sum();
     }
 
+    private int dispatchRun(DispatchPlan plan, List<VulcanEvent> run) {
+        int cancelled = 0;
+
+        // Keyed handlers are matched per event, so routable runs go through the single event path
+        if ((plan.keyedSync != null || plan.keyedAsync != null) && run.get(0) instanceof RoutableEvent) {
+            for (VulcanEvent event : run) {
+                if (callEvent(event)) cancelled++;
+            }
+            return cancelled;
+        }
+
+        RegisteredListener[] handlers = plan.sync;
+        boolean timed = metricsEnabled;
+        if (handlers.length == 0) {
+            if (plan.async.length == 0) return 0;
+
+            long start = timed ? System.nanoTime() : 0L;
+            dispatchAsync(plan.async, run);
+            if (timed) {
+                plan.metrics.record(System.nanoTime() - start);
+            }
+            return 0;
+        }
+
+        long start = timed ? System.nanoTime() : 0L;
+
+        if (!plan.cancellable) {
+            for (RegisteredListener listener : handlers) {
+                invokeAll(listener, run);
+            }
+        } else {
+            // Per event equivalent of the break in callEvent: a stopped event reaches no further handlers
+            boolean[] stopped = new boolean[run.size()];
+            int remaining = run.size();
+
+            for (int h = 0; h < handlers.length && remaining > 0; h++) {
+                RegisteredListener listener = handlers[h];
+
+                if (listener.batchExecutor != null) {
+                    List<VulcanEvent> live = new ArrayList<>(remaining);
+                    for (int i = 0; i < stopped.length; i++) {
+                        if (stopped[i] || listener.ignoreCancelled && run.get(i).isCancelled()) continue;
+                        live.add(run.get(i));
+                    }
+                    if (!live.isEmpty()) {
+                        invoke(listener, null, live.size() == run.size() ? run : Collections.unmodifiableList(live));
+                    }
+                } else {
+                    for (int i = 0; i < stopped.length; i++) {
+                        if (stopped[i] || listener.ignoreCancelled && run.get(i).isCancelled()) continue;
+                        invoke(listener, run.get(i));
+                    }
+                }
+
+                if (listener.priority == EventPriority.MONITOR) continue;
+                for (int i = 0; i < stopped.length; i++) {
+                    if (!stopped[i] && run.get(i).isCancelled()) {
+                        stopped[i] = true;
+                        remaining--;
+                    }
+                }
+            }
+
+            for (VulcanEvent event : run) {
+                if (event.isCancelled()) cancelled++;
+            }
+        }
+
+        // One sample per run, so the event type figures show the cost of a whole batch
+        if (timed) {
+            plan.metrics.record(System.nanoTime() - start);
+        }
+
+        if (plan.async.length != 0) {
+            dispatchAsync(plan.async, run);
+        }
+        return cancelled;
+    }
+
+    private void invokeAll(RegisteredListener listener, List<VulcanEvent> run) {
+        if (listener.batchExecutor != null) {
+            invoke(listener, null, run);
+            return;
+        }
+        for (VulcanEvent event : run) {
+            invoke(listener, event);
+        }
+    }
+
+    private void invoke(RegisteredListener listener, VulcanEvent event) {
+        invoke(listener, event, null);
+    }
+
+    // Batch handlers get the run, or the single event wrapped in a list when fired on its own
+    private void invoke(RegisteredListener listener, VulcanEvent event, List<VulcanEvent> batch) {
+        CircuitBreakerSettings breakerSettings = circuitBreakerSettings;
+        if (breakerSettings.isEnabled() && !listener.breaker.allow()) return;
+
+        boolean recordLatency = metricsEnabled;
+        boolean timed = recordLatency || breakerSettings.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        Throwable failure = null;
+
+        try {
+            if (listener.batchExecutor != null) {
+                listener.batchExecutor.execute(listener.listener, batch != null ? batch : Collections.singletonList(event));
+            } else {
+                listener.executor.execute(listener.listener, event);
+            }
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        long elapsed = timed ? System.nanoTime() - start : 0L;
+        if (recordLatency) {
+            listener.metrics.record(elapsed);
+        }
+        listener.breaker.record(failure, elapsed, breakerSettings);
+    }
+
+    private void dispatchAsync(RegisteredListener[] handlers, VulcanEvent event) {
+        retain(event);
+        boolean accepted = submitAsync(event.getClass(), 1, () -> {
+            try {
+                for (RegisteredListener listener : handlers) {
+                    invoke(listener, event);
+                }
+            } finally {
+                release(event);
+            }
+        });
+        if (!accepted) release(event);
+    }
+
+    private void dispatchAsync(RegisteredListener[] handlers, List<VulcanEvent> run) {
+        run.forEach(VulcanEventManager::retain);
+        boolean accepted = submitAsync(run.get(0).getClass(), run.size(), () -> {
+            try {
+                for (RegisteredListener listener : handlers) {
+                    invokeAll(listener, run);
+                }
+            } finally {
+                run.forEach(VulcanEventManager::release);
+            }
+        });
+        if (!accepted) run.forEach(VulcanEventManager::release);
+    }
+
+    // Pooled events handed to another thread must outlive the caller's release
+    private static void retain(VulcanEvent event) {
+        if (event instanceof PooledEvent) ((PooledEvent) event).retain();
+    }
+
+    private static void release(VulcanEvent event) {
+        if (event instanceof PooledEvent) ((PooledEvent) event).release();
+    }
+
+    /**
+     * @return false if the task was dropped because the queue was full
+     */
+    private boolean submitAsync(Class<?> eventClass, int eventCount, Runnable task) {
+        StripedExecutor executor = asyncExecutor;
+        if (executor == null) {
+            executor = startAsyncExecutor();
+        }
+
+        boolean accepted = executor.execute(eventClass, task);
+        // Picked up a pool configureAsync was replacing, the task belongs on its successor
+        while (!accepted && executor.isStopped() && asyncExecutor != executor) {
+            executor = startAsyncExecutor();
+            accepted = executor.execute(eventClass, task);
+        }
+
+        if (!accepted) {
+            droppedAsyncEvents.add(eventCount);
+            long now = System.currentTimeMillis();
+            long last = lastDropWarning.get();
+            if (now - last >= DROP_WARNING_INTERVAL_MS && lastDropWarning.compareAndSet(last, now)) {
+                log("Async event queue full, dropped " + eventCount + " " + eventClass.getSimpleName()
+                        + " (" + getDroppedAsyncEvents() + " dropped in total)");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private StripedExecutor startAsyncExecutor() {
+        synchronized (asyncSwapLock) {
+            if (asyncExecutor == null) {
+                asyncExecutor = new StripedExecutor("VulcanAPI-Async", asyncWorkers, asyncQueueCapacity, asyncOverflowPolicy);
+            }
+            return asyncExecutor;
+        }
+    }
+
+    private StripedExecutor startOrderedExecutor() {
+        synchronized (orderedSwapLock) {
+            if (orderedExecutor == null) {
+                orderedExecutor = new StripedExecutor("VulcanAPI-Ordered", orderedWorkers, orderedQueueCapacity, orderedOverflowPolicy);
+            }
+            return orderedExecutor;
+        }
+    }
+
+    private HandlerDescriptor[] findHandlers(Class<?> clazz) {
+        ListenerDispatcher dispatcher = GeneratedDispatchers.find(clazz);
+        if (dispatcher != null) {
+            return dispatcher.getHandlers();
+        }
+
+        List<HandlerDescriptor> handlers = new ArrayList<>();
+        for (Method method : clazz.getDeclaredMethods()) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null) continue;
+
+            Class<?>[] params = method.getParameterTypes();
+            boolean batch = params.length == 1 && params[0] == List.class;
+            Class<?> param = batch ? elementType(method.getGenericParameterTypes()[0]) : params.length == 1 ? params[0] : null;
+            if (param == null || !VulcanEvent.class.isAssignableFrom(param)) {
+                log("Invalid event handler: " + method.getName() + " in " + clazz.getSimpleName());
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            Class<? extends VulcanEvent> eventType = (Class<? extends VulcanEvent>) param;
+
+            handlers.add(new HandlerDescriptor(eventType, method.getName(), annotation.priority(),
+                    annotation.ignoreCancelled(), annotation.async(), annotation.keys(),
+                    batch ? null : EventExecutor.of(method), batch ? BatchEventExecutor.of(method) : null));
+        }
+        return handlers.toArray(new HandlerDescriptor[0]);
+    }
+
+    // The event class of a List<E> or List<? extends E> batch handler parameter
+    private static Class<?> elementType(Type type) {
+        if (!(type instanceof ParameterizedType)) return null;
+
+        Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+        if (element instanceof WildcardType) {
+            element = ((WildcardType) element).getUpperBounds()[0];
+        }
+        return element instanceof Class ? (Class<?>) element : null;
+    }
+
+    // Returns null when a key is malformed, so the handler is skipped rather than silently receiving everything
+    private RoutingKey[] parseKeys(Class<?> clazz, HandlerDescriptor handler) {
+        String[] raw = handler.getKeys();
+        if (raw == null || raw.length == 0) return NO_KEYS;
+
+        RoutingKey[] keys = new RoutingKey[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            try {
+                keys[i] = RoutingKey.parse(raw[i]);
+            } catch (IllegalArgumentException e) {
+                log("Invalid event handler: " + handler.getMethodName() + " in " + clazz.getSimpleName() + ", " + e.getMessage());
+                return null;
+            }
+        }
+
+        if (!RoutableEvent.class.isAssignableFrom(handler.getEventType())) {
+            log("Keyed handler " + handler.getMethodName() + " in " + clazz.getSimpleName() + " only receives "
+                    + handler.getEventType().getSimpleName() + " subtypes that implement RoutableEvent");
+        }
+        return keys;
+    }
+
+    // Unkeyed handlers plus those subscribed to any of the event's keys, in dispatch order
+    // A broken getRoutingKeys only costs the event its keyed handlers, the unkeyed ones still run
+    private RoutingKey[] routingKeys(RoutableEvent event) {
+        try {
+            return event.getRoutingKeys();
+        } catch (RuntimeException e) {
+            long now = System.currentTimeMillis();
+            long last = lastRoutingWarning.get();
+            if (now - last >= DROP_WARNING_INTERVAL_MS && lastRoutingWarning.compareAndSet(last, now)) {
+                log("Failed to get routing keys of " + event.getClass().getSimpleName() + ", keyed handlers skipped: " + e);
+            }
+            return null;
+        }
+    }
+
+    private static RegisteredListener[] route(RegisteredListener[] unkeyed, Map<RoutingKey, RegisteredListener[]> keyed, RoutingKey[] keys) {
+        if (keyed == null || keys == null) return unkeyed;
+
+        RegisteredListener[] single = null;
+        List<RegisteredListener> merged = null;
+        for (RoutingKey key : keys) {
+            if (key == null) continue;
+            RegisteredListener[] matched = keyed.get(key);
+            if (matched == null) continue;
+
+            if (single == null) {
+                single = matched;
+                continue;
+            }
+            if (merged == null) {
+                merged = new ArrayList<>(single.length + matched.length + unkeyed.length);
+                Collections.addAll(merged, single);
+            }
+            for (RegisteredListener listener : matched) {
+                if (!containsSame(merged, listener)) merged.add(listener);
+            }
+        }
+
+        if (single == null) return unkeyed;
+        if (merged == null) {
+            if (unkeyed.length == 0) return single;
+            merged = new ArrayList<>(single.length + unkeyed.length);
+            Collections.addAll(merged, single);
+        }
+
+        Collections.addAll(merged, unkeyed);
+        merged.sort(DISPATCH_ORDER);
+        return merged.toArray(NO_HANDLERS);
+    }
+
+    private static boolean containsSame(List<RegisteredListener> list, RegisteredListener listener) {
+        for (RegisteredListener existing : list) {
+            if (existing == listener) return true;
+        }
+        return false;
+    }
+
+    // Must hold the lock
+    private void expungeStaleListeners() {
+        int removed = 0;
+        Reference<? extends VulcanListener> stale;
+        while ((stale = staleListeners.poll()) != null) {
+            if (removeListener((WeakListener) stale)) removed++;
+        }
+
+        if (removed > 0) {
+            dispatchTable.clear();
+            log("Removed " + removed + " garbage collected weak listeners");
+        }
+    }
+
+    // Must hold the lock. A listener registered weakly twice shares one reference, the way a strong one shares its key
+    private WeakListener weakKey(VulcanListener listener) {
+        WeakListener key = new WeakListener(listener, staleListeners);
+        WeakListener existing = weakListeners.putIfAbsent(key, key);
+        return existing != null ? existing : key;
+    }
+
+    // The executors are cached on the listener's own class, so they stay reachable exactly as long as the listener
+    private static EventExecutor weaken(EventExecutor executor) {
+        if (executor == null) return null;
+
+        WeakReference<EventExecutor> reference = new WeakReference<>(executor);
+        return (listener, event) -> {
+            EventExecutor target = reference.get();
+            VulcanListener instance = ((WeakListener) listener).get();
+            if (target != null && instance != null) target.execute(instance, event);
+        };
+    }
+
+    private static BatchEventExecutor weakenBatch(BatchEventExecutor executor) {
+        if (executor == null) return null;
+
+        WeakReference<BatchEventExecutor> reference = new WeakReference<>(executor);
+        return (listener, events) -> {
+            BatchEventExecutor target = reference.get();
+            VulcanListener instance = ((WeakListener) listener).get();
+            if (target != null && instance != null) target.execute(instance, events);
+        };
+    }
+
+    private static String nameOf(VulcanListener listener) {
+        if (listener instanceof Subscription) return ((Subscription) listener).handlerName;
+        if (listener instanceof WeakListener) return ((WeakListener) listener).className;
+        return listener.getClass().getName();
+    }
+
+    // Must hold the lock; leaves the dispatch table for the caller to invalidate
+    private boolean removeListener(VulcanListener listener) {
+        if (listener == null) return false;
+        List<RegisteredListener> owned = byListener.remove(listener);
+        if (owned == null) return false;
+        if (listener instanceof WeakListener) {
+            weakListeners.remove(listener);
+        }
+
+        String plugin = null;
+        for (RegisteredListener registered : owned) {
+            List<RegisteredListener> subscribed = listeners.get(registered.eventType);
+            if (subscribed != null) {
+                subscribed.remove(registered);
+                if (subscribed.isEmpty()) listeners.remove(registered.eventType);
+            }
+            plugin = registered.pluginName;
+        }
+
+        if (plugin != null) {
+            Set<VulcanListener> pluginListeners = byPlugin.get(plugin);
+            if (pluginListeners != null && pluginListeners.remove(listener) && pluginListeners.isEmpty()) {
+                byPlugin.remove(plugin);
+            }
+        }
+        return true;
+    }
+
+    private static void insertSorted(List<RegisteredListener> list, RegisteredListener listener) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (DISPATCH_ORDER.compare(list.get(mid), listener) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        list.add(low, listener);
+    }
+
+    // Must hold the lock; drops only the plans that can include handlers for this type
+    private void invalidate(Class<?> eventType) {
+        dispatchTable.keySet().removeIf(eventType::isAssignableFrom);
+    }
+
+    private static Plugin findOwningPlugin(Object listener) {
+        try {
+            return JavaPlugin.getProvidingPlugin(listener.getClass());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private DispatchPlan getPlan(Class<?> eventClass) {
+        DispatchPlan plan = dispatchTable.get(eventClass);
+        return plan != null ? plan : bake(eventClass);
+    }
+
+    private DispatchPlan bake(Class<?> eventClass) {
+        synchronized (lock) {
+            DispatchPlan plan = dispatchTable.get(eventClass);
+            if (plan != null) return plan;
+            expungeStaleListeners();
+
+            List<RegisteredListener> merged = new ArrayList<>();
+            for (Class<?> type = eventClass; type != null && VulcanEvent.class.isAssignableFrom(type); type = type.getSuperclass()) {
+                List<RegisteredListener> subscribed = listeners.get(type);
+                if (subscribed != null) merged.addAll(subscribed);
+            }
+
+            if (merged.isEmpty()) {
+                plan = NO_PLAN;
+            } else {
+                merged.sort(DISPATCH_ORDER);
+
+                // Async delivery is only safe when no handler can cancel the event
+                boolean cancellable = Cancellable.class.isAssignableFrom(eventClass);
+                List<RegisteredListener> sync = new ArrayList<>(merged.size());
+                List<RegisteredListener> async = new ArrayList<>();
+                Map<RoutingKey, List<RegisteredListener>> keyedSync = new HashMap<>();
+                Map<RoutingKey, List<RegisteredListener>> keyedAsync = new HashMap<>();
+                for (RegisteredListener listener : merged) {
+                    boolean runAsync = listener.async && !cancellable;
+                    if (listener.keys.length == 0) {
+                        (runAsync ? async : sync).add(listener);
+                        continue;
+                    }
+
+                    // Keyed handlers are indexed under each of their keys, kept in dispatch order
+                    Map<RoutingKey, List<RegisteredListener>> index = runAsync ? keyedAsync : keyedSync;
+                    for (RoutingKey key : listener.keys) {
+                        List<RegisteredListener> indexed = index.computeIfAbsent(key, k -> new ArrayList<>());
+                        if (!containsSame(indexed, listener)) indexed.add(listener);
+                    }
+                }
+                plan = new DispatchPlan(sync.toArray(NO_HANDLERS), async.toArray(NO_HANDLERS),
+                        toIndex(keyedSync), toIndex(keyedAsync), merged.size(), cancellable,
+                        eventMetrics.computeIfAbsent(eventClass, k -> new LatencyRecorder()));
+            }
+
+            dispatchTable.put(eventClass, plan);
+            return plan;
+        }
+    }
+
+    private static Map<RoutingKey, RegisteredListener[]> toIndex(Map<RoutingKey, List<RegisteredListener>> keyed) {
+        if (keyed.isEmpty()) return null;
+
+        Map<RoutingKey, RegisteredListener[]> index = new HashMap<>(keyed.size() * 2);
+        for (Map.Entry<RoutingKey, List<RegisteredListener>> entry : keyed.entrySet()) {
+            index.put(entry.getKey(), entry.getValue().toArray(NO_HANDLERS));
+        }
+        return index;
+    }
+
+    // Hashed and compared by the identity of the listener it wraps, so it can be looked up from the listener
+    private static final class WeakListener extends WeakReference<VulcanListener> implements VulcanListener {
+        private final String className;
+        private final int hash;
+
+        WeakListener(VulcanListener listener, ReferenceQueue<VulcanListener> queue) {
+            super(listener, queue);
+            this.className = listener.getClass().getName();
+            this.hash = System.identityHashCode(listener);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof WeakListener)) return false;
+
+            VulcanListener listener = get();
+            return listener != null && listener == ((WeakListener) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private class Subscription implements VulcanListener, EventSubscription {
+        private final Class<? extends VulcanEvent> eventType;
+        private final String handlerName;
+
+        Subscription(Class<? extends VulcanEvent> eventType, String handlerName) {
+            this.eventType = eventType;
+            this.handlerName = handlerName;
+        }
+
+        @Override
+        public Class<? extends VulcanEvent> getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public boolean isActive() {
+            synchronized (lock) {
+                return byListener.containsKey(this);
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (lock) {
+                if (removeListener(this)) invalidate(eventType);
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class DispatchPlan {
+        final RegisteredListener[] sync;
+        final RegisteredListener[] async;
+        // Null when no handler of this event type is keyed
+        final Map<RoutingKey, RegisteredListener[]> keyedSync;
+        final Map<RoutingKey, RegisteredListener[]> keyedAsync;
+        final int handlerCount;
+        // Decided once per event class, so dispatch never type checks the event
+        final boolean cancellable;
+        final LatencyRecorder metrics;
+    }
+
     @AllArgsConstructor
     private static class RegisteredListener {
         final VulcanListener listener;
-        final Method method;
+        final String pluginName;
+        final Class<? extends VulcanEvent> eventType;
+        final String methodName;
+        final EventExecutor executor;
+        final BatchEventExecutor batchExecutor;
         final EventPriority priority;
         final boolean ignoreCancelled;
+        final boolean async;
+        final RoutingKey[] keys;
+        final long order;
+        final HandlerCircuitBreaker breaker;
+        final LatencyRecorder metrics = new LatencyRecorder();
     }
 }
@@ -0,0 +1,146 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import net.vulcandev.vulcanapi.fortress.check.CheckType;
+import net.vulcandev.vulcanapi.fortress.event.impl.AlertToggleEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.BanwaveEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerFlagEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerJoinEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerKickEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerLeaveEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerPunishEvent;
+import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
+import net.vulcandev.vulcanapi.vulcancrates.events.CrateOpenEvent;
+import net.vulcandev.vulcanapi.vulcantools.events.CurrencyGrindEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * Codecs for the built-in events that carry plain data. Players are journaled by UUID and looked up again
+ * when read, so they are null when replayed on a server where the player is offline. Locations, blocks and
+ * wrapped Bukkit events cannot be rebuilt offline, which leaves events such as {@code MinerBreakEvent} or
+ * {@code GhostBlockEvent} to plugin-provided codecs.
+ */
+final class DefaultEventCodecs {
+
+    private DefaultEventCodecs() {}
+
+    static void registerAll(EventCodecRegistry registry) {
+        registry.register(1, EventCodec.of(PlayerFlagEvent.class, (event, out) -> {
+            writeProfile(event.getPlayer(), out);
+            out.writeEnum(event.getCheckName())
+                    .writeString(event.getCheckType())
+                    .writeString(event.getCheckTypeAdvanced())
+                    .writeString(event.getDebugData())
+                    .writeString(event.getDescription())
+                    .writeVarInt(event.getViolationLevel())
+                    .writeVarInt(event.getMaxViolationLevel())
+                    .writeString(event.getReleaseType());
+        }, in -> new PlayerFlagEvent(readProfile(in), in.readEnum(CheckType.class), in.readString(), in.readString(),
+                in.readString(), in.readString(), in.readVarInt(), in.readVarInt(), in.readString())));
+
+        registry.register(2, EventCodec.of(PlayerPunishEvent.class, (event, out) -> {
+            writeProfile(event.getPlayer(), out);
+            out.writeEnum(event.getCheckName())
+                    .writeString(event.getCheckType())
+                    .writeString(event.getCheckTypeAdvanced())
+                    .writeString(event.getDebugData())
+                    .writeString(event.getDescription())
+                    .writeVarInt(event.getViolationLevel())
+                    .writeVarInt(event.getMaxViolationLevel());
+        }, in -> new PlayerPunishEvent(readProfile(in), in.readEnum(CheckType.class), in.readString(), in.readString(),
+                in.readString(), in.readString(), in.readVarInt(), in.readVarInt())));
+
+        registry.register(3, EventCodec.of(AlertToggleEvent.class, (event, out) -> {
+            writeProfile(event.getPlayer(), out);
+            out.writeBoolean(event.isState());
+        }, in -> new AlertToggleEvent(readProfile(in), in.readBoolean())));
+
+        registry.register(4, EventCodec.of(PlayerJoinEvent.class, (event, out) -> {
+            writeProfile(event.getPlayer(), out);
+            out.writeVarInt(event.getProtocolVersion());
+        }, in -> new PlayerJoinEvent(readProfile(in), in.readVarInt())));
+
+        registry.register(5, EventCodec.of(PlayerKickEvent.class, (event, out) -> {
+            writeProfile(event.getPlayer(), out);
+            out.writeString(event.getReason());
+        }, in -> new PlayerKickEvent(readProfile(in), in.readString())));
+
+        registry.register(6, EventCodec.of(PlayerLeaveEvent.class,
+                (event, out) -> out.writeUuid(event.getPlayerUuid()),
+                in -> new PlayerLeaveEvent(in.readUuid())));
+
+        registry.register(7, EventCodec.of(BanwaveEvent.class,
+                (event, out) -> out.writeUuids(event.getAffectedPlayers()),
+                in -> new BanwaveEvent(in.readUuids())));
+
+        registry.register(100, EventCodec.of(CrateOpenEvent.class, (event, out) -> {
+            writePlayer(event.getPlayer(), out);
+
+            CrateOpenEvent.CrateSnapshot crate = event.getCrate();
+            out.writeBoolean(crate != null);
+            if (crate != null) {
+                out.writeString(crate.getName()).writeString(crate.getDisplayName());
+            }
+
+            CrateOpenEvent.PrizeSnapshot prize = event.getPrize();
+            out.writeBoolean(prize != null);
+            if (prize != null) {
+                out.writeString(prize.getName())
+                        .writeStrings(prize.getCommands())
+                        .writeDouble(prize.getChance())
+                        .writeBoolean(prize.isAnnounce())
+                        .writeString(prize.getUrl())
+                        .writeEnum(prize.getMaterial())
+                        .writeVarInt(prize.getAmount())
+                        .writeByte(prize.getData())
+                        .writeStrings(prize.getLore())
+                        .writeBoolean(prize.isGlowing());
+            }
+        }, in -> {
+            Player player = readPlayer(in);
+            CrateOpenEvent.CrateSnapshot crate = in.readBoolean()
+                    ? new CrateOpenEvent.CrateSnapshot(in.readString(), in.readString())
+                    : null;
+            CrateOpenEvent.PrizeSnapshot prize = in.readBoolean()
+                    ? new CrateOpenEvent.PrizeSnapshot(in.readString(), in.readStrings(), in.readDouble(), in.readBoolean(),
+                            in.readString(), in.readEnum(Material.class), in.readVarInt(), in.readByte(), in.readStrings(), in.readBoolean())
+                    : null;
+            return new CrateOpenEvent(player, crate, prize);
+        }));
+
+        registry.register(200, EventCodec.of(CurrencyGrindEvent.class, (event, out) -> {
+            writePlayer(event.getPlayer(), out);
+            out.writeString(event.getCurrency()).writeVarLong(event.getAmount());
+        }, in -> new CurrencyGrindEvent(readPlayer(in), in.readString(), in.readVarLong())));
+    }
+
+    // The location is left out; it needs a loaded world to be rebuilt
+    private static void writeProfile(PlayerProfile profile, JournalOutput out) {
+        out.writeBoolean(profile != null);
+        if (profile == null) return;
+
+        out.writeUuid(profile.getUuid())
+                .writeString(profile.getPlayerName())
+                .writeString(profile.getClientName())
+                .writeString(profile.getVersion())
+                .writeVarLong(profile.getCurrentTick())
+                .writeVarLong(profile.getPing());
+    }
+
+    private static PlayerProfile readProfile(JournalInput in) {
+        if (!in.readBoolean()) return null;
+        return new PlayerProfile(in.readUuid(), in.readString(), in.readString(), in.readString(), in.readVarLong(), in.readVarLong(), null);
+    }
+
+    private static void writePlayer(Player player, JournalOutput out) {
+        out.writeUuid(player == null ? null : player.getUniqueId());
+    }
+
+    private static Player readPlayer(JournalInput in) {
+        UUID uuid = in.readUuid();
+        return uuid == null ? null : Bukkit.getPlayer(uuid);
+    }
+}
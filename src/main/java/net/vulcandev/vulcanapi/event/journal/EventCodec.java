@@ -0,0 +1,38 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Converts one {@link VulcanEvent} class to and from its journal form. Only the exact class is journaled,
+ * subclasses need a codec of their own.
+ */
+public interface EventCodec<T extends VulcanEvent> {
+
+    Class<T> getEventType();
+
+    void write(T event, JournalOutput out);
+
+    T read(JournalInput in);
+
+    static <T extends VulcanEvent> EventCodec<T> of(Class<T> eventType, BiConsumer<T, JournalOutput> writer, Function<JournalInput, T> reader) {
+        return new EventCodec<T>() {
+            @Override
+            public Class<T> getEventType() {
+                return eventType;
+            }
+
+            @Override
+            public void write(T event, JournalOutput out) {
+                writer.accept(event, out);
+            }
+
+            @Override
+            public T read(JournalInput in) {
+                return reader.apply(in);
+            }
+        };
+    }
+}
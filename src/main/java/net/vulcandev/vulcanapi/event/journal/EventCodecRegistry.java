@@ -0,0 +1,72 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import lombok.AllArgsConstructor;
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns each journaled event class a stable numeric id. Ids are written into every record, so an id must
+ * keep meaning the same class for as long as journals written with it are kept.
+ */
+public class EventCodecRegistry {
+    private static final int MAX_TYPE_ID = 0xFFFF;
+
+    private final Map<Class<?>, Registration> byType = new ConcurrentHashMap<>();
+    private final Map<Integer, Registration> byId = new ConcurrentHashMap<>();
+
+    /**
+     * @return a registry holding the codecs for the built-in Fortress, VulcanCrates and VulcanTools events
+     */
+    public static EventCodecRegistry withDefaults() {
+        EventCodecRegistry registry = new EventCodecRegistry();
+        DefaultEventCodecs.registerAll(registry);
+        return registry;
+    }
+
+    /**
+     * @param typeId id written into the journal, between 1 and 65535; built-in codecs use ids below 1000
+     * @throws IllegalArgumentException if the id or event class is already registered
+     */
+    public synchronized void register(int typeId, EventCodec<?> codec) {
+        if (typeId < 1 || typeId > MAX_TYPE_ID) {
+            throw new IllegalArgumentException("Journal type id must be between 1 and " + MAX_TYPE_ID + ", got " + typeId);
+        }
+        if (byId.containsKey(typeId)) {
+            throw new IllegalArgumentException("Journal type id " + typeId + " is already used by " + byId.get(typeId).codec.getEventType().getName());
+        }
+        if (byType.containsKey(codec.getEventType())) {
+            throw new IllegalArgumentException(codec.getEventType().getName() + " already has a journal codec");
+        }
+
+        @SuppressWarnings("unchecked")
+        Registration registration = new Registration(typeId, (EventCodec<VulcanEvent>) codec);
+        byId.put(typeId, registration);
+        byType.put(codec.getEventType(), registration);
+    }
+
+    public List<Class<? extends VulcanEvent>> getEventTypes() {
+        List<Class<? extends VulcanEvent>> types = new ArrayList<>();
+        for (Registration registration : byType.values()) {
+            types.add(registration.codec.getEventType());
+        }
+        return types;
+    }
+
+    Registration find(Class<?> eventType) {
+        return byType.get(eventType);
+    }
+
+    Registration find(int typeId) {
+        return byId.get(typeId);
+    }
+
+    @AllArgsConstructor
+    static final class Registration {
+        final int typeId;
+        final EventCodec<VulcanEvent> codec;
+    }
+}
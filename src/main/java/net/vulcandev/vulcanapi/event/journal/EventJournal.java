@@ -0,0 +1,261 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import net.vulcandev.vulcanapi.VulcanAPI;
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.xantharddev.vulcanlib.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only binary journal of fired events, written into memory-mapped segment files that rotate once full.
+ * Events are encoded on the firing thread into a per-thread buffer, so the shared lock only covers a memory copy.
+ *
+ * <p>Segment layout: a 16 byte header (magic, format version, creation time) followed by records of
+ * {@code int length, short typeId, long timestamp, payload}, where length counts everything after itself.
+ * A zero length marks the end of the written part.</p>
+ */
+public class EventJournal implements AutoCloseable {
+    static final int MAGIC = 0x56454A31;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_BYTES = 16;
+    static final int RECORD_HEADER_BYTES = 14;
+    static final String SEGMENT_PREFIX = "events-";
+    static final String SEGMENT_SUFFIX = ".vjournal";
+    private static final long ERROR_LOG_INTERVAL_MS = 30000L;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final EventCodecRegistry codecs;
+
+    private final ThreadLocal<JournalOutput> scratch = ThreadLocal.withInitial(() -> new JournalOutput(256));
+    private final List<EventSubscription> subscriptions = new ArrayList<>();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // Per event type, so one broken codec is reported without flooding the log on every event
+    private final Map<Class<?>, EncodeFailures> encodeFailures = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private Path segmentPath;
+    private long sequence;
+    private volatile boolean open;
+
+    /**
+     * @param directory where segment files are written
+     * @param segmentBytes size of each segment file; a new one is started when a record no longer fits
+     * @param maxSegments how many segment files to keep, oldest deleted first; 0 keeps all of them
+     * @param codecs the event classes to journal and how to encode them
+     */
+    public EventJournal(Path directory, int segmentBytes, int maxSegments, EventCodecRegistry codecs) {
+        this.directory = directory;
+        this.segmentBytes = Math.max(SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES + 1024, segmentBytes);
+        this.maxSegments = Math.max(0, maxSegments);
+        this.codecs = codecs;
+    }
+
+    /**
+     * Creates the directory if needed and starts a new segment after any existing ones
+     */
+    public synchronized void open() throws IOException {
+        if (open) return;
+
+        Files.createDirectories(directory);
+        List<Path> existing = listSegments(directory);
+        sequence = existing.isEmpty() ? 1 : parseSequence(existing.get(existing.size() - 1)) + 1;
+        openSegment();
+        open = true;
+    }
+
+    /**
+     * Journals every event type with a codec, as fired: the journal subscribes at {@link EventPriority#MONITOR},
+     * which runs before handlers that may change the event
+     */
+    public void attach(VulcanEventManager eventManager) {
+        synchronized (subscriptions) {
+            for (Class<? extends VulcanEvent> eventType : codecs.getEventTypes()) {
+                subscriptions.add(eventManager.subscribe(eventType, EventPriority.MONITOR, false, this::append));
+            }
+        }
+    }
+
+    /**
+     * Writes an event to the journal
+     * @return false if the journal is closed, the event class has no codec or the record could not be written
+     */
+    public boolean append(VulcanEvent event) {
+        if (!open) return false;
+
+        EventCodecRegistry.Registration registration = codecs.find(event.getClass());
+        if (registration == null) return false;
+
+        JournalOutput out = scratch.get();
+        out.clear();
+        try {
+            registration.codec.write(event, out);
+        } catch (RuntimeException e) {
+            dropped.increment();
+            logEncodeFailure(event.getClass(), e);
+            return false;
+        }
+
+        ByteBuffer payload = out.flip();
+        int recordBytes = RECORD_HEADER_BYTES + payload.remaining();
+
+        synchronized (this) {
+            if (!open) return false;
+            if (recordBytes > segmentBytes - SEGMENT_HEADER_BYTES) {
+                dropped.increment();
+                return false;
+            }
+
+            try {
+                if (segment.remaining() < recordBytes) {
+                    rotate();
+                }
+            } catch (IOException e) {
+                open = false;
+                Logger.log(VulcanAPI.getInstance(), "&cEvent journal stopped, could not start a new segment: " + e.getMessage());
+                return false;
+            }
+
+            segment.putInt(recordBytes - 4)
+                    .putShort((short) registration.typeId)
+                    .putLong(event.getTimestamp())
+                    .put(payload);
+        }
+
+        written.increment();
+        return true;
+    }
+
+    private void logEncodeFailure(Class<?> eventType, RuntimeException failure) {
+        EncodeFailures failures = encodeFailures.computeIfAbsent(eventType, k -> new EncodeFailures());
+        String suppressed;
+        synchronized (failures) {
+            long now = System.currentTimeMillis();
+            if (failures.lastLog != 0L && now - failures.lastLog < ERROR_LOG_INTERVAL_MS) {
+                failures.suppressed++;
+                return;
+            }
+
+            suppressed = failures.suppressed > 0 ? " (" + failures.suppressed + " similar errors suppressed)" : "";
+            failures.lastLog = now;
+            failures.suppressed = 0;
+        }
+
+        Logger.log(VulcanAPI.getInstance(), "&cCould not journal " + eventType.getSimpleName() + ", the event was dropped: "
+                + failure + suppressed);
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public synchronized Path getCurrentSegment() {
+        return segmentPath;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Unsubscribes from the event manager and flushes the current segment to disk
+     */
+    @Override
+    public void close() {
+        synchronized (subscriptions) {
+            subscriptions.forEach(EventSubscription::close);
+            subscriptions.clear();
+        }
+
+        synchronized (this) {
+            if (!open) return;
+            open = false;
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                Logger.log(VulcanAPI.getInstance(), "&cCould not close event journal segment: " + e.getMessage());
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeSegment();
+        sequence++;
+        openSegment();
+        pruneSegments();
+    }
+
+    private void openSegment() throws IOException {
+        segmentPath = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segment.putInt(MAGIC).putInt(VERSION).putLong(System.currentTimeMillis());
+    }
+
+    private void closeSegment() throws IOException {
+        segment.force();
+        segment = null;
+        channel.close();
+        channel = null;
+    }
+
+    private void pruneSegments() throws IOException {
+        if (maxSegments == 0) return;
+
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            // A segment still mapped on some platforms cannot be deleted yet; it is retried on the next rotation
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return segments;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) segments.add(path);
+        }
+        // Zero padded sequence numbers sort by name
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static long parseSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class EncodeFailures {
+        private long lastLog;
+        private int suppressed;
+    }
+}
@@ -0,0 +1,147 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reads the segments written by an {@link EventJournal}, oldest first. Records with an unknown type id or
+ * that fail to decode, and segments with an unknown header, are skipped and counted.
+ */
+public class EventJournalReader implements Iterable<JournalEntry> {
+    private final Path directory;
+    private final EventCodecRegistry codecs;
+    private final LongAdder skipped = new LongAdder();
+
+    public EventJournalReader(Path directory, EventCodecRegistry codecs) {
+        this.directory = directory;
+        this.codecs = codecs;
+    }
+
+    public List<Path> getSegments() throws IOException {
+        return EventJournal.listSegments(directory);
+    }
+
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * Fires every journaled event through the event manager, back to back with no delay. Each event keeps the
+     * timestamp it was originally fired with.
+     * Stop any journal attached to the same manager first, or the replayed events are journaled again.
+     * @return the number of events fired
+     */
+    public long replay(VulcanEventManager eventManager) {
+        long fired = 0;
+        for (JournalEntry entry : this) {
+            eventManager.callEvent(entry.getEvent());
+            fired++;
+        }
+        return fired;
+    }
+
+    /**
+     * @throws UncheckedIOException if a segment cannot be listed or mapped
+     */
+    @Override
+    public Iterator<JournalEntry> iterator() {
+        try {
+            return new EntryIterator(getSegments().iterator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class EntryIterator implements Iterator<JournalEntry> {
+        private final Iterator<Path> segments;
+        private ByteBuffer segment;
+        private JournalEntry next;
+
+        EntryIterator(Iterator<Path> segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (segment == null || !readNext()) {
+                    if (!segments.hasNext()) return false;
+                    segment = map(segments.next());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public JournalEntry next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            JournalEntry entry = next;
+            next = null;
+            return entry;
+        }
+
+        // Leaves the next decodable record in next; false once the segment has no more records
+        private boolean readNext() {
+            while (segment.remaining() >= EventJournal.RECORD_HEADER_BYTES) {
+                int length = segment.getInt();
+                if (length <= 0 || length > segment.remaining()) {
+                    segment = null;
+                    return false;
+                }
+
+                int end = segment.position() + length;
+                int typeId = segment.getShort() & 0xFFFF;
+                long timestamp = segment.getLong();
+                EventCodecRegistry.Registration registration = codecs.find(typeId);
+
+                ByteBuffer payload = segment.slice();
+                payload.limit(end - segment.position());
+                segment.position(end);
+
+                if (registration == null) {
+                    skipped.increment();
+                    continue;
+                }
+
+                try {
+                    VulcanEvent event = registration.codec.read(new JournalInput(payload));
+                    // Replayed handlers see when the event was originally fired, not when it was read back
+                    event.restoreTimestamp(timestamp);
+                    next = new JournalEntry(timestamp, event);
+                    return true;
+                } catch (RuntimeException e) {
+                    skipped.increment();
+                }
+            }
+
+            segment = null;
+            return false;
+        }
+
+        private ByteBuffer map(Path path) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.remaining() < EventJournal.SEGMENT_HEADER_BYTES
+                        || buffer.getInt() != EventJournal.MAGIC || buffer.getInt() != EventJournal.VERSION) {
+                    skipped.increment();
+                    return null;
+                }
+                buffer.getLong();
+                return buffer;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+
+/**
+ * One event read back from a journal, with the time it was originally fired.
+ */
+@Getter
+@AllArgsConstructor
+public final class JournalEntry {
+    private final long timestamp;
+    private final VulcanEvent event;
+}
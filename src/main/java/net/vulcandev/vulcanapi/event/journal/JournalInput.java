@@ -0,0 +1,95 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads back what {@link JournalOutput} wrote, in the same order.
+ */
+public final class JournalInput {
+    private final ByteBuffer buffer;
+
+    JournalInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    public int readVarInt() {
+        long zigzag = readVarLong();
+        return (int) (zigzag >>> 1) ^ -(int) (zigzag & 1);
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) return value;
+        }
+    }
+
+    public long readLong() {
+        return buffer.getLong();
+    }
+
+    public double readDouble() {
+        return buffer.getDouble();
+    }
+
+    public String readString() {
+        int length = (int) readVarLong() - 1;
+        if (length < 0) return null;
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public UUID readUuid() {
+        return readBoolean() ? new UUID(readLong(), readLong()) : null;
+    }
+
+    /**
+     * @return the constant with the written name, or null if it was null or no longer exists
+     */
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        if (name == null) return null;
+
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public List<String> readStrings() {
+        int size = readVarInt();
+        if (size < 0) return null;
+
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) values.add(readString());
+        return values;
+    }
+
+    public Set<UUID> readUuids() {
+        int size = readVarInt();
+        if (size < 0) return null;
+
+        Set<UUID> values = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) values.add(readUuid());
+        return values;
+    }
+}
@@ -0,0 +1,117 @@
+package net.vulcandev.vulcanapi.event.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Growable buffer an {@link EventCodec} writes one event into. Integers and lengths are written as
+ * variable-length numbers and strings as UTF-8, so typical records stay well under a hundred bytes.
+ */
+public final class JournalOutput {
+    private ByteBuffer buffer;
+
+    JournalOutput(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    public JournalOutput writeBoolean(boolean value) {
+        ensure(1);
+        buffer.put((byte) (value ? 1 : 0));
+        return this;
+    }
+
+    public JournalOutput writeByte(byte value) {
+        ensure(1);
+        buffer.put(value);
+        return this;
+    }
+
+    public JournalOutput writeVarInt(int value) {
+        // Zigzag so small negative numbers stay short too
+        return writeVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    public JournalOutput writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+        return this;
+    }
+
+    public JournalOutput writeLong(long value) {
+        ensure(8);
+        buffer.putLong(value);
+        return this;
+    }
+
+    public JournalOutput writeDouble(double value) {
+        ensure(8);
+        buffer.putDouble(value);
+        return this;
+    }
+
+    public JournalOutput writeString(String value) {
+        if (value == null) return writeVarLong(0);
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensure(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    public JournalOutput writeUuid(UUID value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+        return this;
+    }
+
+    /**
+     * Writes an enum constant by name, so journals stay readable when constants are added or reordered
+     */
+    public JournalOutput writeEnum(Enum<?> value) {
+        return writeString(value == null ? null : value.name());
+    }
+
+    public JournalOutput writeStrings(Collection<String> values) {
+        writeVarInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) writeString(value);
+        }
+        return this;
+    }
+
+    public JournalOutput writeUuids(Collection<UUID> values) {
+        writeVarInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (UUID value : values) writeUuid(value);
+        }
+        return this;
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    ByteBuffer flip() {
+        buffer.flip();
+        return buffer;
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() >= bytes) return;
+
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
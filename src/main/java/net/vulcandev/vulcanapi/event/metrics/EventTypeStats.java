@@ -0,0 +1,15 @@
+package net.vulcandev.vulcanapi.event.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Dispatch figures for a single concrete event class. Latency covers the handlers run on the firing thread.
+ */
+@Getter
+@AllArgsConstructor
+public final class EventTypeStats {
+    private final String eventType;
+    private final int handlerCount;
+    private final LatencySnapshot latency;
+}
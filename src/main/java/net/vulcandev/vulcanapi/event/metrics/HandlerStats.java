@@ -0,0 +1,24 @@
+package net.vulcandev.vulcanapi.event.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.vulcandev.vulcanapi.event.EventPriority;
+
+/**
+ * Invocation figures for a single registered handler.
+ */
+@Getter
+@AllArgsConstructor
+public final class HandlerStats {
+    private final String listenerName;
+    private final String methodName;
+    private final String eventType;
+    private final EventPriority priority;
+    private final boolean async;
+    private final boolean quarantined;
+    private final LatencySnapshot latency;
+
+    public String getHandlerName() {
+        return listenerName + "#" + methodName;
+    }
+}
@@ -0,0 +1,66 @@
+package net.vulcandev.vulcanapi.event.metrics;
+
+import lombok.Getter;
+
+/**
+ * Point-in-time copy of a {@link LatencyRecorder}.
+ */
+@Getter
+public final class LatencySnapshot {
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+
+    public LatencySnapshot(long count, long totalNanos, long maxNanos, long[] histogram) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram.clone();
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0L : totalNanos / count;
+    }
+
+    /**
+     * Estimates a latency percentile from the histogram
+     * @param percentile value between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, capped at the observed maximum
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) return 0L;
+
+        long rank = (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(LatencyRecorder.bucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Combines two snapshots, as if both recorders had recorded into one
+     */
+    public LatencySnapshot merge(LatencySnapshot other) {
+        long[] merged = histogram.clone();
+        for (int i = 0; i < merged.length && i < other.histogram.length; i++) {
+            merged[i] += other.histogram[i];
+        }
+        return new LatencySnapshot(count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos), merged);
+    }
+
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * @return the exclusive upper bound in nanoseconds of each histogram bucket
+     */
+    public static long getBucketUpperBound(int bucket) {
+        return LatencyRecorder.bucketUpperBound(bucket);
+    }
+}
@@ -0,0 +1,215 @@
+package net.vulcandev.vulcanapi.event.processor;
+
+import net.vulcandev.vulcanapi.event.EventHandler;
+import net.vulcandev.vulcanapi.event.ListenerDispatcher;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Optional build-time companion to {@link EventHandler}. For every {@code VulcanListener} class with handler methods
+ * it writes a {@link ListenerDispatcher} that calls the handlers directly, so registering the listener needs no
+ * reflection at runtime. Listeners that cannot be called from generated code (private classes or private handlers)
+ * are skipped and keep using reflection.
+ *
+ * <p>Enable it by adding {@code net.vulcandev.vulcanapi.event.processor.EventHandlerProcessor} to the compiler's
+ * annotation processors, with VulcanAPI on the processor path.</p>
+ */
+public class EventHandlerProcessor extends AbstractProcessor {
+
+    private static final String EVENT_HANDLER = "net.vulcandev.vulcanapi.event.EventHandler";
+    private static final String VULCAN_LISTENER = "net.vulcandev.vulcanapi.event.VulcanListener";
+    private static final String VULCAN_EVENT = "net.vulcandev.vulcanapi.event.VulcanEvent";
+    private static final String API_PACKAGE = "net.vulcandev.vulcanapi.event.";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(EVENT_HANDLER);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement handlerAnnotation = elements.getTypeElement(EVENT_HANDLER);
+        if (handlerAnnotation == null) return false;
+
+        Map<TypeElement, List<ExecutableElement>> handlersByListener = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(handlerAnnotation)) {
+            if (element.getKind() != ElementKind.METHOD) continue;
+            TypeElement owner = (TypeElement) element.getEnclosingElement();
+            handlersByListener.computeIfAbsent(owner, k -> new ArrayList<>()).add((ExecutableElement) element);
+        }
+
+        for (Map.Entry<TypeElement, List<ExecutableElement>> entry : handlersByListener.entrySet()) {
+            generate(entry.getKey(), entry.getValue());
+        }
+        return false;
+    }
+
+    private void generate(TypeElement listener, List<ExecutableElement> methods) {
+        TypeMirror listenerType = elements.getTypeElement(VULCAN_LISTENER).asType();
+        if (!types.isAssignable(types.erasure(listener.asType()), listenerType)) return;
+
+        if (!isReachable(listener)) {
+            note(listener, "not accessible from its package, keeping reflective registration");
+            return;
+        }
+
+        TypeMirror eventType = elements.getTypeElement(VULCAN_EVENT).asType();
+        List<String> entries = new ArrayList<>();
+
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.PRIVATE)) {
+                note(method, "private handler, keeping reflective registration for " + listener.getSimpleName());
+                return;
+            }
+
+            List<? extends VariableElement> params = method.getParameters();
+            TypeMirror param = params.size() == 1 ? params.get(0).asType() : null;
+            TypeMirror batchElement = param == null ? null : batchElementType(param);
+            TypeMirror handled = batchElement != null ? batchElement : param;
+            if (handled == null || !types.isAssignable(types.erasure(handled), eventType)) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "Invalid event handler: must take exactly one VulcanEvent or List of VulcanEvent parameter", method);
+                continue;
+            }
+
+            entries.add(entry(listener, method, types.erasure(handled).toString(), batchElement != null));
+        }
+
+        write(listener, entries);
+    }
+
+    // The E of a List<E> or List<? extends E> parameter, or null for anything else
+    private TypeMirror batchElementType(TypeMirror param) {
+        if (param.getKind() != TypeKind.DECLARED) return null;
+
+        TypeMirror list = types.erasure(elements.getTypeElement("java.util.List").asType());
+        if (!types.isSameType(types.erasure(param), list)) return null;
+
+        List<? extends TypeMirror> arguments = ((DeclaredType) param).getTypeArguments();
+        if (arguments.size() != 1) return null;
+
+        TypeMirror element = arguments.get(0);
+        if (element.getKind() == TypeKind.WILDCARD) {
+            element = ((WildcardType) element).getExtendsBound();
+        }
+        return element == null || element.getKind() != TypeKind.DECLARED ? null : element;
+    }
+
+    private String entry(TypeElement listener, ExecutableElement method, String eventClass, boolean batch) {
+        EventHandler annotation = method.getAnnotation(EventHandler.class);
+        String target = method.getModifiers().contains(Modifier.STATIC)
+                ? types.erasure(listener.asType()) + "." + method.getSimpleName()
+                : "((" + types.erasure(listener.asType()) + ") listener)." + method.getSimpleName();
+
+        return "            new " + API_PACKAGE + "HandlerDescriptor(" + eventClass + ".class, \"" + method.getSimpleName() + "\",\n"
+                + "                    " + API_PACKAGE + "EventPriority." + annotation.priority().name() + ", "
+                + annotation.ignoreCancelled() + ", " + annotation.async() + ", " + keys(annotation.keys()) + ",\n"
+                + (batch
+                        ? "                    null, (listener, events) -> " + target + "((java.util.List<" + eventClass + ">) (java.util.List) events))"
+                        : "                    (listener, event) -> " + target + "((" + eventClass + ") event), null)");
+    }
+
+    private String keys(String[] keys) {
+        List<String> literals = new ArrayList<>(keys.length);
+        for (String key : keys) {
+            literals.add("\"" + key.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        }
+        return "new String[]{" + String.join(", ", literals) + "}";
+    }
+
+    private void write(TypeElement listener, List<String> entries) {
+        PackageElement pkg = elements.getPackageOf(listener);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(listener).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + ListenerDispatcher.SUFFIX;
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("// Generated by ").append(getClass().getName()).append(", do not edit\n");
+        source.append("@SuppressWarnings(\"unchecked\")\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(API_PACKAGE).append("ListenerDispatcher {\n\n");
+        source.append("    private static final ").append(API_PACKAGE).append("HandlerDescriptor[] HANDLERS = {\n");
+        source.append(String.join(",\n", entries)).append("\n");
+        source.append("    };\n\n");
+        source.append("    @Override\n");
+        source.append("    public ").append(API_PACKAGE).append("HandlerDescriptor[] getHandlers() {\n");
+        source.append("        return HANDLERS.clone();\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, listener);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + qualifiedName + ": " + e.getMessage(), listener);
+        }
+    }
+
+    private boolean isReachable(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            TypeElement current = (TypeElement) element;
+            if (current.getModifiers().contains(Modifier.PRIVATE)) return false;
+
+            NestingKind nesting = current.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) return false;
+        }
+        return true;
+    }
+
+    private void note(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.NOTE, "VulcanAPI dispatcher skipped: " + message, element);
+    }
+}
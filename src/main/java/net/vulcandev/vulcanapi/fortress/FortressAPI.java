@@ -2,13 +2,20 @@ package net.vulcandev.vulcanapi.fortress;
 
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.event.VulcanListener;
+import net.vulcandev.vulcanapi.fortress.alts.FortressAltIndex;
 import net.vulcandev.vulcanapi.fortress.data.FortressAltMatch;
 import net.vulcandev.vulcanapi.fortress.data.FortressLog;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogBatch;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogCursor;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogQuery;
 import net.vulcandev.vulcanapi.fortress.data.FortressLogStats;
 import net.vulcandev.vulcanapi.fortress.data.FortressPage;
 import net.vulcandev.vulcanapi.fortress.data.FortressPlayerSession;
 import net.vulcandev.vulcanapi.fortress.data.FortressPunishment;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
+import net.vulcandev.vulcanapi.fortress.stats.FlagStatsWindow;
+import net.vulcandev.vulcanapi.fortress.stats.FortressFlagStats;
+import net.vulcandev.vulcanapi.metrics.MetricsProvider;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -18,7 +25,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
-public interface FortressAPI {
+public interface FortressAPI extends MetricsProvider {
 
     void registerListener(VulcanListener listener);
 
@@ -52,10 +59,38 @@ public interface FortressAPI {
         return CompletableFuture.completedFuture(new FortressPage<>(Collections.emptyList(), 0L));
     }
 
+    /**
+     * Reads the next batch of a keyset log scan. Rows come in {@code (loggedAt, id)} order, ascending or as set by
+     * {@link FortressLogQuery#isNewestFirst()}, and start strictly after {@code after}. The batch's next cursor is
+     * null once the scan is exhausted. The total is only counted for the first batch of a query that asks for it.
+     * @param after the cursor of the last row already read, or null to start from the beginning
+     * @param limit the most rows to return
+     */
+    default CompletableFuture<FortressLogBatch> getLogsAfter(FortressLogQuery query, FortressLogCursor after, int limit) {
+        return CompletableFuture.completedFuture(new FortressLogBatch(Collections.emptyList(), null,
+                query.isCountTotal() && after == null ? 0L : FortressLogBatch.NOT_COUNTED));
+    }
+
+    /**
+     * Streams every log matching the query in batches of {@code batchSize}, without loading them all at once
+     */
+    default FortressLogIterator iterateLogs(FortressLogQuery query, int batchSize) {
+        return new FortressLogIterator(this, query, null, batchSize);
+    }
+
     default CompletableFuture<FortressLogStats> getLogStats(long since, int topChecks, int topPlayers) {
         return CompletableFuture.completedFuture(new FortressLogStats(0L, 0L, 0, 0, 0L, Collections.emptyList(), Collections.emptyList()));
     }
 
+    /**
+     * Gets flag statistics for a recent window from the counters VulcanAPI keeps as flags are fired, without
+     * querying the database. Unique players and top player counts are estimates.
+     * @see FortressFlagStats
+     */
+    default FortressLogStats getRecentLogStats(FlagStatsWindow window, int topChecks, int topPlayers) {
+        return FortressFlagStats.getInstance().getStats(window, topChecks, topPlayers);
+    }
+
     default CompletableFuture<List<FortressPunishment>> getPunishments(UUID uuid) {
         return CompletableFuture.completedFuture(Collections.emptyList());
     }
@@ -96,6 +131,15 @@ public interface FortressAPI {
         return CompletableFuture.completedFuture(Collections.emptyList());
     }
 
+    /**
+     * Finds likely alts of a player from the indexes VulcanAPI keeps in memory, without querying the database.
+     * History overlap is not indexed and is always 0 in the returned matches.
+     * @see FortressAltIndex
+     */
+    default List<FortressAltMatch> findAltCandidates(UUID uuid, int limit) {
+        return FortressAltIndex.getInstance().findMatches(uuid, limit);
+    }
+
     static FortressAPI getInstance() {
         return FortressAPIInstance.getInstance();
     }
@@ -109,6 +153,10 @@ public interface FortressAPI {
 
         public static void setInstance(FortressAPI v) {
             fortressAPI = v;
+            // Fortress enables after VulcanAPI, so the alt index can only be seeded once it registers
+            if (v != null) {
+                FortressAltIndex.getInstance().seed();
+            }
         }
     }
 }
@@ -0,0 +1,111 @@
+package net.vulcandev.vulcanapi.fortress;
+
+import net.vulcandev.vulcanapi.fortress.data.FortressLog;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogBatch;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogCursor;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogQuery;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Pulls Fortress logs one keyset batch at a time through {@link FortressAPI#getLogsAfter}. While a batch is being
+ * read the next one is already requested, so at most two batches are held no matter how many rows the scan covers.
+ * Reading blocks on the database, so iterate off the main thread. Close the iterator when stopping early.
+ */
+public final class FortressLogIterator implements Iterator<FortressLog>, AutoCloseable {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final FortressAPI api;
+    private final FortressLogQuery query;
+    private final int batchSize;
+
+    private Iterator<FortressLog> current = Collections.emptyIterator();
+    private CompletableFuture<FortressLogBatch> pending;
+    private FortressLogCursor cursor;
+    private long totalRows = FortressLogBatch.NOT_COUNTED;
+    private boolean closed;
+
+    /**
+     * @param after where to resume, or null to start at the beginning of the query
+     */
+    public FortressLogIterator(FortressAPI api, FortressLogQuery query, FortressLogCursor after, int batchSize) {
+        this.api = api;
+        this.query = query;
+        this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, batchSize));
+        this.cursor = after;
+        this.pending = api.getLogsAfter(query, after, this.batchSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed || pending == null) return false;
+
+            FortressLogBatch batch = await(pending);
+            if (batch == null) {
+                pending = null;
+                return false;
+            }
+
+            pending = batch.hasMore() ? api.getLogsAfter(query, batch.getNextCursor(), batchSize) : null;
+            if (batch.isTotalCounted()) {
+                totalRows = batch.getTotalRows();
+            }
+            current = batch.getRows().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public FortressLog next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        FortressLog log = current.next();
+        cursor = FortressLogCursor.of(log);
+        return log;
+    }
+
+    /**
+     * @return the position of the last row returned, which a later iterator can resume after; before the first row
+     * this is the cursor the iterator was started after
+     */
+    public FortressLogCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @return the number of rows matching the query, or {@link FortressLogBatch#NOT_COUNTED} if it was not counted
+     * or the first batch has not arrived yet
+     */
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    private static FortressLogBatch await(CompletableFuture<FortressLogBatch> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Log scan was cancelled", e);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package net.vulcandev.vulcanapi.fortress.alts;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.fortress.FortressAPI;
+import net.vulcandev.vulcanapi.fortress.cache.FortressSessionCache;
+import net.vulcandev.vulcanapi.fortress.data.FortressAltMatch;
+import net.vulcandev.vulcanapi.fortress.data.FortressPlayerSession;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerJoinEvent;
+import net.xantharddev.vulcanlib.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory inverted indexes over Fortress sessions for fast alt candidate lookups. Players are posted under their
+ * IP, their normalised mod list, and their client brand with sensitivity bucket, and optionally under MinHash LSH
+ * bands of their mod list so clients with nearly the same mods are found too. A lookup only reads the postings of
+ * one player's values, so its cost depends on the size of those postings rather than on how many sessions are
+ * indexed. Postings larger than the configured limit, such as a shared proxy IP or the vanilla brand, are skipped
+ * when generating candidates.
+ *
+ * <p>A player's postings are replaced whenever their session is indexed again, which VulcanAPI does on every
+ * Fortress {@link PlayerJoinEvent}. The index is seeded from the Fortress session snapshot once Fortress has
+ * registered its API; until that has completed, and for players Fortress has never reported since, lookups only see
+ * the players indexed so far. Fortress can also index stored sessions in bulk with {@link #addAll(Collection)}.</p>
+ *
+ * <p>At most the configured number of players is kept, and the player indexed longest ago is dropped first. Each
+ * indexed player costs roughly 1 KB, more with long mod lists or fuzzy mod matching.</p>
+ */
+public class FortressAltIndex {
+
+    private static final int IP_SCORE = 50;
+    private static final int BRAND_MODS_SCORE = 25;
+    private static final int FUZZY_MODS_SCORE = 15;
+    private static final int SENSITIVITY_SCORE = 10;
+    private static final double FUZZY_MODS_SIMILARITY = 0.5;
+
+    // Guarded by this
+    // In the order players were last indexed, so the eldest is the one dropped when full
+    private final Map<UUID, Indexed> players = new LinkedHashMap<>();
+    private final Map<String, Set<UUID>> byIp = new HashMap<>();
+    private final Map<String, Set<UUID>> byMods = new HashMap<>();
+    private final Map<String, Set<UUID>> byBrandSensitivity = new HashMap<>();
+    private final Map<Long, Set<UUID>> byModBand = new HashMap<>();
+    private EventSubscription subscription;
+
+    private volatile int sensitivityBucketWidth = 5;
+    private volatile int maxPostingSize = 5000;
+    private volatile int maxPlayers = 100000;
+    private volatile boolean fuzzyMods;
+
+    private FortressAltIndex() {}
+
+    private static final class InstanceHolder {
+        static final FortressAltIndex instance = new FortressAltIndex();
+    }
+
+    public static FortressAltIndex getInstance() {
+        return InstanceHolder.instance;
+    }
+
+    /**
+     * @param sensitivityBucket width of a sensitivity bucket; players whose sensitivities differ by less than this
+     *                          count as a sensitivity match
+     * @param maxPostingSize postings with more players than this are too common to suggest an alt and are skipped
+     * @param maxPlayers the most players kept in the index
+     * @param fuzzyMods also match mod lists that are similar rather than identical
+     */
+    public synchronized void configure(int sensitivityBucket, int maxPostingSize, int maxPlayers, boolean fuzzyMods) {
+        this.sensitivityBucketWidth = Math.max(1, sensitivityBucket);
+        this.maxPostingSize = Math.max(1, maxPostingSize);
+        this.maxPlayers = Math.max(1, maxPlayers);
+        this.fuzzyMods = fuzzyMods;
+
+        // Buckets and bands depend on the settings, so every player is posted again
+        List<FortressPlayerSession> sessions = new ArrayList<>(players.size());
+        for (Indexed indexed : players.values()) {
+            sessions.add(indexed.session);
+        }
+        clear();
+        addAll(sessions);
+    }
+
+    /**
+     * Re-indexes a player whenever Fortress reports them joining, using the session cache so the lookup is shared
+     * with other plugins asking for the same session. If Fortress has already registered its API the index is seeded
+     * now, otherwise {@link #seed()} runs when it does.
+     */
+    public synchronized void attach(VulcanEventManager manager) {
+        if (subscription != null && subscription.isActive()) return;
+
+        // Runs after the session cache's MONITOR handler has dropped the player's old session
+        subscription = manager.subscribe(PlayerJoinEvent.class, EventPriority.HIGHEST, false,
+                event -> FortressSessionCache.getInstance().getSession(event.getPlayer().getUuid()).thenAccept(this::add));
+
+        if (FortressAPI.getInstance() != null) {
+            seed();
+        }
+    }
+
+    /**
+     * Indexes the Fortress session snapshot, so players who joined before the index was attached are found too.
+     * Does nothing while the index is detached or Fortress has not registered its API
+     */
+    public synchronized void seed() {
+        if (subscription == null || !subscription.isActive() || FortressAPI.getInstance() == null) return;
+
+        rebuild().whenComplete((count, error) -> {
+            if (error != null) {
+                Logger.log("&cFailed to seed the Fortress alt index: " + error.getMessage());
+            }
+        });
+    }
+
+    public synchronized void detach() {
+        if (subscription != null) {
+            subscription.close();
+            subscription = null;
+        }
+        clear();
+    }
+
+    /**
+     * Indexes every session of the current Fortress snapshot
+     * @return a future completing with the number of sessions indexed
+     */
+    public CompletableFuture<Integer> rebuild() {
+        return FortressSessionCache.getInstance().getSessionSnapshot().thenApply(sessions -> {
+            addAll(sessions.values());
+            return sessions.size();
+        });
+    }
+
+    public synchronized void addAll(Collection<FortressPlayerSession> sessions) {
+        for (FortressPlayerSession session : sessions) {
+            add(session);
+        }
+    }
+
+    /**
+     * Indexes a session, replacing the player's previous postings
+     */
+    public synchronized void add(FortressPlayerSession session) {
+        if (session == null || session.getUuid() == null) return;
+
+        remove(session.getUuid());
+        Indexed indexed = new Indexed(session, sensitivityBucketWidth, fuzzyMods);
+        players.put(session.getUuid(), indexed);
+        while (players.size() > maxPlayers) {
+            remove(players.keySet().iterator().next());
+        }
+
+        post(byIp, indexed.ip, indexed.uuid);
+        post(byMods, indexed.mods, indexed.uuid);
+        post(byBrandSensitivity, brandSensitivity(indexed.brand, indexed.sensitivityBucket), indexed.uuid);
+        if (indexed.signature != null) {
+            for (int band = 0; band < ModFingerprint.BANDS; band++) {
+                post(byModBand, ModFingerprint.bandKey(indexed.signature, band), indexed.uuid);
+            }
+        }
+    }
+
+    public synchronized void remove(UUID uuid) {
+        Indexed indexed = players.remove(uuid);
+        if (indexed == null) return;
+
+        unpost(byIp, indexed.ip, uuid);
+        unpost(byMods, indexed.mods, uuid);
+        unpost(byBrandSensitivity, brandSensitivity(indexed.brand, indexed.sensitivityBucket), uuid);
+        if (indexed.signature != null) {
+            for (int band = 0; band < ModFingerprint.BANDS; band++) {
+                unpost(byModBand, ModFingerprint.bandKey(indexed.signature, band), uuid);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        players.clear();
+        byIp.clear();
+        byMods.clear();
+        byBrandSensitivity.clear();
+        byModBand.clear();
+    }
+
+    public synchronized int getIndexedCount() {
+        return players.size();
+    }
+
+    /**
+     * Finds the indexed players sharing an IP, mod list or client brand and sensitivity with a player, most
+     * confident first. History overlap is not indexed and is always 0, use {@link net.vulcandev.vulcanapi.fortress.FortressAPI#getAltMatches}
+     * for a full comparison of the candidates
+     * @param limit the most matches to return
+     * @return the matches, empty if the player is not indexed
+     */
+    public synchronized List<FortressAltMatch> findMatches(UUID uuid, int limit) {
+        Indexed target = players.get(uuid);
+        if (target == null || limit <= 0) return Collections.emptyList();
+
+        Set<UUID> candidates = new HashSet<>();
+        collect(candidates, byIp.get(target.ip));
+        collect(candidates, byMods.get(target.mods));
+        // Sensitivities just across a bucket edge are within the match tolerance, so the neighbouring buckets count too
+        if (target.brand != null) {
+            for (int bucket = target.sensitivityBucket - 1; bucket <= target.sensitivityBucket + 1; bucket++) {
+                collect(candidates, byBrandSensitivity.get(brandSensitivity(target.brand, bucket)));
+            }
+        }
+        if (target.signature != null) {
+            for (int band = 0; band < ModFingerprint.BANDS; band++) {
+                collect(candidates, byModBand.get(ModFingerprint.bandKey(target.signature, band)));
+            }
+        }
+        candidates.remove(uuid);
+
+        List<FortressAltMatch> matches = new ArrayList<>(candidates.size());
+        for (UUID candidate : candidates) {
+            FortressAltMatch match = score(target, players.get(candidate));
+            if (match != null) matches.add(match);
+        }
+
+        matches.sort((a, b) -> Integer.compare(b.getConfidence(), a.getConfidence()));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private FortressAltMatch score(Indexed target, Indexed candidate) {
+        boolean ipMatch = target.ip != null && target.ip.equals(candidate.ip);
+        boolean sensitivityMatch = Math.abs(target.sensitivity - candidate.sensitivity) < sensitivityBucketWidth;
+        boolean sameBrand = target.brand != null && target.brand.equals(candidate.brand);
+        boolean sameMods = target.mods != null && target.mods.equals(candidate.mods);
+        double modSimilarity = target.signature != null && candidate.signature != null
+                ? ModFingerprint.similarity(target.signature, candidate.signature) : 0.0;
+
+        boolean brandModsMatch = sameBrand && sameMods;
+        int confidence = 0;
+        List<String> reasons = new ArrayList<>(3);
+        if (ipMatch) {
+            confidence += IP_SCORE;
+            reasons.add("IP");
+        }
+        if (brandModsMatch) {
+            confidence += BRAND_MODS_SCORE;
+            reasons.add("Brand/Mods");
+        } else if (sameMods || modSimilarity >= FUZZY_MODS_SIMILARITY) {
+            confidence += FUZZY_MODS_SCORE;
+            reasons.add("Similar Mods");
+        }
+        if (sensitivityMatch) {
+            confidence += SENSITIVITY_SCORE;
+            reasons.add("Sensitivity");
+        }
+        if (confidence == 0) return null;
+
+        return new FortressAltMatch(candidate.session, ipMatch, sensitivityMatch, brandModsMatch, 0,
+                Math.min(100, confidence), String.join(" + ", reasons));
+    }
+
+    private static String brandSensitivity(String brand, int bucket) {
+        return brand == null ? null : brand + '#' + bucket;
+    }
+
+    private void collect(Set<UUID> candidates, Set<UUID> posting) {
+        if (posting != null && posting.size() <= maxPostingSize) {
+            candidates.addAll(posting);
+        }
+    }
+
+    private static <K> void post(Map<K, Set<UUID>> index, K key, UUID uuid) {
+        if (key == null) return;
+        index.computeIfAbsent(key, k -> new HashSet<>()).add(uuid);
+    }
+
+    private static <K> void unpost(Map<K, Set<UUID>> index, K key, UUID uuid) {
+        if (key == null) return;
+
+        Set<UUID> posting = index.get(key);
+        if (posting != null && posting.remove(uuid) && posting.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static final class Indexed {
+        private final UUID uuid;
+        private final FortressPlayerSession session;
+        private final String ip;
+        private final String mods;
+        private final String brand;
+        private final int sensitivity;
+        private final int sensitivityBucket;
+        private final int[] signature;
+
+        private Indexed(FortressPlayerSession session, int bucketWidth, boolean fuzzyMods) {
+            this.uuid = session.getUuid();
+            this.session = session;
+            this.ip = session.getIpAddress() == null || session.getIpAddress().isEmpty() ? null : session.getIpAddress();
+            this.brand = session.getClientBrand() == null ? null : session.getClientBrand().toLowerCase(Locale.ROOT);
+            this.sensitivity = session.getSensitivity();
+            this.sensitivityBucket = Math.floorDiv(sensitivity, bucketWidth);
+
+            String[] tokens = ModFingerprint.tokens(session.getModsLoaded());
+            this.mods = tokens == null ? null : ModFingerprint.key(tokens);
+            this.signature = tokens == null || !fuzzyMods ? null : ModFingerprint.signature(tokens);
+        }
+    }
+}
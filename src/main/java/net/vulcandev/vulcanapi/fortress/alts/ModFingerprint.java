@@ -0,0 +1,95 @@
+package net.vulcandev.vulcanapi.fortress.alts;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Normalised form of a session's {@code modsLoaded} list, plus a MinHash signature of it for fuzzy matching.
+ * Two clients with mostly the same mods get mostly the same signature values, so their LSH bands collide.
+ */
+final class ModFingerprint {
+
+    static final int SIGNATURE_SIZE = 16;
+    static final int BANDS = 4;
+    static final int ROWS = SIGNATURE_SIZE / BANDS;
+
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private ModFingerprint() {}
+
+    /**
+     * @return the mods lower-cased, de-duplicated and sorted, or null when none are loaded
+     */
+    static String[] tokens(String modsLoaded) {
+        if (modsLoaded == null) return null;
+
+        TreeSet<String> tokens = new TreeSet<>();
+        for (String token : modsLoaded.toLowerCase(Locale.ROOT).split("[,;\\s]+")) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens.isEmpty() ? null : tokens.toArray(new String[0]);
+    }
+
+    static String key(String[] tokens) {
+        return String.join(",", tokens);
+    }
+
+    static int[] signature(String[] tokens) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String token : tokens) {
+            long base = hash(token);
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int value = (int) (mix(base ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) signature[i] = value;
+            }
+        }
+        return signature;
+    }
+
+    static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    /**
+     * @return the estimated Jaccard similarity of the two mod sets
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    private static long hash(String token) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : token.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ b) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,493 @@
+package net.vulcandev.vulcanapi.fortress.cache;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.fortress.FortressAPI;
+import net.vulcandev.vulcanapi.fortress.data.FortressPlayerSession;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerJoinEvent;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerLeaveEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of the Fortress session lookups. Sessions are kept for a fixed time after loading,
+ * the least recently used are dropped beyond the size limit, and a player's entries are dropped as soon as Fortress
+ * fires their {@link PlayerJoinEvent} or {@link PlayerLeaveEvent}. Concurrent lookups of a player that is not cached
+ * share a single load. Unknown players are cached as null like any other result.
+ *
+ * <p>Use it in place of {@link FortressAPI#getSession}, {@link FortressAPI#getSessionByName},
+ * {@link FortressAPI#getSessions} and {@link FortressAPI#getSessionSnapshot}. While disabled every call goes
+ * straight to Fortress.</p>
+ */
+public class FortressSessionCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    // Guarded by this
+    private final Map<UUID, Entry<FortressPlayerSession>> byUuid = new LinkedHashMap<UUID, Entry<FortressPlayerSession>>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Entry<FortressPlayerSession>> eldest) {
+            if (size() <= maxSize) return false;
+            evictions.increment();
+            return true;
+        }
+    };
+    private final Map<String, Entry<FortressPlayerSession>> byName = new LinkedHashMap<String, Entry<FortressPlayerSession>>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry<FortressPlayerSession>> eldest) {
+            if (size() <= maxSize) return false;
+            evictions.increment();
+            unlinkName(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+    };
+    // The name each cached lookup by name resolved to, so invalidating a UUID also reaches it; at most one per byName entry
+    private final Map<UUID, String> nameKeys = new HashMap<>();
+    private Entry<Map<UUID, FortressPlayerSession>> snapshot;
+    // Per player generations, striped by UUID. An invalidation stamps the player's stripe with the next generation,
+    // and a load that started before that must neither cache nor index what it got for the player
+    private final long[] invalidatedAt = new long[GENERATION_STRIPES];
+    private long generation;
+    private final List<EventSubscription> subscriptions = new ArrayList<>();
+
+    private volatile boolean enabled = true;
+    private volatile int maxSize = 10_000;
+    private volatile long ttlNanos = TimeUnit.SECONDS.toNanos(60L);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private FortressSessionCache() {}
+
+    private static final class InstanceHolder {
+        static final FortressSessionCache instance = new FortressSessionCache();
+    }
+
+    public static FortressSessionCache getInstance() {
+        return InstanceHolder.instance;
+    }
+
+    /**
+     * @param maxSize the most players kept, looked up by UUID and by name separately
+     * @param ttlMillis how long a loaded session is served before it is loaded again
+     */
+    public synchronized void configure(boolean enabled, int maxSize, long ttlMillis) {
+        this.enabled = enabled;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, ttlMillis));
+        clear();
+    }
+
+    /**
+     * Drops players from the cache when Fortress reports them joining or leaving.
+     */
+    public synchronized void attach(VulcanEventManager manager) {
+        if (!subscriptions.isEmpty()) return;
+
+        subscriptions.add(manager.subscribe(PlayerJoinEvent.class, EventPriority.MONITOR, false,
+                event -> invalidate(event.getPlayer().getUuid(), event.getPlayer().getPlayerName())));
+        subscriptions.add(manager.subscribe(PlayerLeaveEvent.class, EventPriority.MONITOR, false,
+                event -> invalidate(event.getPlayerUuid(), null)));
+    }
+
+    public synchronized void detach() {
+        subscriptions.forEach(EventSubscription::close);
+        subscriptions.clear();
+        clear();
+    }
+
+    public CompletableFuture<FortressPlayerSession> getSession(UUID uuid) {
+        FortressAPI api = FortressAPI.getInstance();
+        if (api == null) return CompletableFuture.completedFuture(null);
+        if (!enabled) return api.getSession(uuid);
+
+        Entry<FortressPlayerSession> entry;
+        synchronized (this) {
+            entry = byUuid.get(uuid);
+            if (isLive(entry)) {
+                hits.increment();
+                return entry.view();
+            }
+
+            misses.increment();
+            entry = new Entry<>(generation);
+            byUuid.put(uuid, entry);
+        }
+
+        Entry<FortressPlayerSession> loading = entry;
+        load(loading, () -> api.getSession(uuid), session -> index(session, loading.generation),
+                () -> remove(byUuid, uuid, loading));
+        return loading.view();
+    }
+
+    public CompletableFuture<FortressPlayerSession> getSessionByName(String name) {
+        FortressAPI api = FortressAPI.getInstance();
+        if (api == null || name == null) return CompletableFuture.completedFuture(null);
+        if (!enabled) return api.getSessionByName(name);
+
+        String key = name.toLowerCase(Locale.ROOT);
+        Entry<FortressPlayerSession> entry;
+        synchronized (this) {
+            entry = byName.get(key);
+            if (isLive(entry)) {
+                hits.increment();
+                return entry.view();
+            }
+
+            misses.increment();
+            entry = new Entry<>(generation);
+            byName.put(key, entry);
+        }
+
+        Entry<FortressPlayerSession> loading = entry;
+        load(loading, () -> api.getSessionByName(name), session -> link(key, loading, session),
+                () -> remove(byName, key, loading));
+        return loading.view();
+    }
+
+    /**
+     * Looks up several players at once. Players that are not cached are loaded with one
+     * {@link FortressAPI#getSessions} call. Players without a session are left out of the result
+     */
+    public CompletableFuture<Map<UUID, FortressPlayerSession>> getSessions(Collection<UUID> uuids) {
+        FortressAPI api = FortressAPI.getInstance();
+        if (api == null) return CompletableFuture.completedFuture(new LinkedHashMap<>());
+        if (!enabled) return api.getSessions(uuids);
+
+        Map<UUID, CompletableFuture<FortressPlayerSession>> results = new LinkedHashMap<>();
+        Map<UUID, Entry<FortressPlayerSession>> loading = new LinkedHashMap<>();
+        synchronized (this) {
+            for (UUID uuid : uuids) {
+                if (results.containsKey(uuid)) continue;
+
+                Entry<FortressPlayerSession> entry = byUuid.get(uuid);
+                if (isLive(entry)) {
+                    hits.increment();
+                } else {
+                    misses.increment();
+                    entry = new Entry<>(generation);
+                    byUuid.put(uuid, entry);
+                    loading.put(uuid, entry);
+                }
+                results.put(uuid, entry.future);
+            }
+        }
+
+        if (!loading.isEmpty()) {
+            loadAll(api, loading);
+        }
+
+        return CompletableFuture.allOf(results.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<UUID, FortressPlayerSession> sessions = new LinkedHashMap<>();
+            for (Map.Entry<UUID, CompletableFuture<FortressPlayerSession>> result : results.entrySet()) {
+                FortressPlayerSession session = result.getValue().join();
+                if (session != null) sessions.put(result.getKey(), session);
+            }
+            return sessions;
+        });
+    }
+
+    /**
+     * Gets every session Fortress reports in its snapshot. The snapshot is cached as a whole and dropped whenever a
+     * player joins or leaves. The returned map is read-only
+     */
+    public CompletableFuture<Map<UUID, FortressPlayerSession>> getSessionSnapshot() {
+        FortressAPI api = FortressAPI.getInstance();
+        if (api == null) return CompletableFuture.completedFuture(Collections.emptyMap());
+        if (!enabled) return api.getSessionSnapshot();
+
+        Entry<Map<UUID, FortressPlayerSession>> entry;
+        synchronized (this) {
+            if (isLive(snapshot)) {
+                hits.increment();
+                return snapshot.view();
+            }
+
+            misses.increment();
+            entry = new Entry<>(generation);
+            snapshot = entry;
+        }
+
+        Entry<Map<UUID, FortressPlayerSession>> loading = entry;
+        load(loading,
+                () -> api.getSessionSnapshot().thenApply(sessions -> sessions == null
+                        ? Collections.<UUID, FortressPlayerSession>emptyMap()
+                        : Collections.unmodifiableMap(new LinkedHashMap<>(sessions))),
+                sessions -> prime(sessions, loading.generation),
+                () -> {
+                    synchronized (this) {
+                        if (snapshot == loading) snapshot = null;
+                    }
+                });
+        return loading.view();
+    }
+
+    /**
+     * Drops everything cached for a player
+     * @param name the player's current name, if known, so a lookup by a name that was unknown until now is dropped too
+     */
+    public synchronized void invalidate(UUID uuid, String name) {
+        if (uuid != null) {
+            byUuid.remove(uuid);
+            String nameKey = nameKeys.remove(uuid);
+            if (nameKey != null) {
+                byName.remove(nameKey);
+            }
+            invalidatedAt[stripe(uuid)] = ++generation;
+        }
+        if (name != null) {
+            String key = name.toLowerCase(Locale.ROOT);
+            Entry<FortressPlayerSession> entry = byName.remove(key);
+            if (entry != null) {
+                unlinkName(key, entry);
+            }
+        }
+        snapshot = null;
+        invalidations.increment();
+    }
+
+    public synchronized void clear() {
+        byUuid.clear();
+        byName.clear();
+        nameKeys.clear();
+        snapshot = null;
+        Arrays.fill(invalidatedAt, ++generation);
+    }
+
+    public synchronized int getSize() {
+        return byUuid.size();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * @return the share of lookups answered from the cache, 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0L ? 0.0 : (double) hitCount / total;
+    }
+
+    private <T> void load(Entry<T> entry, Supplier<CompletableFuture<T>> loader, Consumer<T> onLoaded, Runnable onFailure) {
+        CompletableFuture<T> source;
+        try {
+            source = loader.get();
+        } catch (Throwable e) {
+            source = new CompletableFuture<>();
+            source.completeExceptionally(e);
+        }
+        if (source == null) {
+            source = CompletableFuture.completedFuture(null);
+        }
+
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                // Failures are not cached, the next lookup tries again
+                loadFailures.increment();
+                onFailure.run();
+                entry.future.completeExceptionally(error);
+                return;
+            }
+
+            synchronized (this) {
+                entry.loadedAt = System.nanoTime();
+                entry.loaded = true;
+                onLoaded.accept(value);
+            }
+            entry.future.complete(value);
+        });
+    }
+
+    private void loadAll(FortressAPI api, Map<UUID, Entry<FortressPlayerSession>> loading) {
+        CompletableFuture<Map<UUID, FortressPlayerSession>> source;
+        try {
+            source = api.getSessions(new ArrayList<>(loading.keySet()));
+        } catch (Throwable e) {
+            source = new CompletableFuture<>();
+            source.completeExceptionally(e);
+        }
+        if (source == null) {
+            source = CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        source.whenComplete((sessions, error) -> {
+            if (error != null) {
+                loadFailures.increment();
+                for (Map.Entry<UUID, Entry<FortressPlayerSession>> entry : loading.entrySet()) {
+                    remove(byUuid, entry.getKey(), entry.getValue());
+                    entry.getValue().future.completeExceptionally(error);
+                }
+                return;
+            }
+
+            synchronized (this) {
+                long now = System.nanoTime();
+                for (Map.Entry<UUID, Entry<FortressPlayerSession>> entry : loading.entrySet()) {
+                    entry.getValue().loadedAt = now;
+                    entry.getValue().loaded = true;
+                    index(sessions == null ? null : sessions.get(entry.getKey()), entry.getValue().generation);
+                }
+            }
+            for (Map.Entry<UUID, Entry<FortressPlayerSession>> entry : loading.entrySet()) {
+                entry.getValue().future.complete(sessions == null ? null : sessions.get(entry.getKey()));
+            }
+        });
+    }
+
+    // Must hold this. Makes a loaded session reachable by both UUID and name, sharing one entry
+    private void index(FortressPlayerSession session, long loadGeneration) {
+        if (session == null || session.getUuid() == null) return;
+        UUID uuid = session.getUuid();
+        if (isStale(uuid, loadGeneration)) return;
+
+        Entry<FortressPlayerSession> entry = byUuid.get(uuid);
+        if (entry == null || !isLive(entry)) {
+            entry = completed(session);
+            byUuid.put(uuid, entry);
+        }
+        entry.uuid = uuid;
+
+        String nameKey = session.getName() == null ? null : session.getName().toLowerCase(Locale.ROOT);
+        if (nameKey != null && !isLive(byName.get(nameKey))) {
+            putName(nameKey, uuid, entry);
+        }
+    }
+
+    // Must hold this. Ties a finished lookup by name to the player it found, however long ago the lookup started
+    private void link(String key, Entry<FortressPlayerSession> entry, FortressPlayerSession session) {
+        if (session == null || session.getUuid() == null) return;
+        UUID uuid = session.getUuid();
+
+        // The player was invalidated while the lookup ran, and nothing could reach this entry by UUID back then
+        if (isStale(uuid, entry.generation)) {
+            remove(byName, key, entry);
+            return;
+        }
+
+        entry.uuid = uuid;
+        if (byName.get(key) == entry) {
+            putName(key, uuid, entry);
+        }
+        index(session, entry.generation);
+    }
+
+    // Must hold this
+    private void putName(String key, UUID uuid, Entry<FortressPlayerSession> entry) {
+        if (byName.get(key) != entry) {
+            byName.put(key, entry);
+        }
+
+        // A player renamed since their last lookup leaves the old name behind, which only their UUID could reach
+        String previous = nameKeys.put(uuid, key);
+        if (previous != null && !previous.equals(key)) {
+            Entry<FortressPlayerSession> old = byName.get(previous);
+            if (old != null && uuid.equals(old.uuid)) {
+                byName.remove(previous);
+            }
+        }
+    }
+
+    // Must hold this, also called from removeEldestEntry
+    private void unlinkName(String key, Entry<FortressPlayerSession> entry) {
+        if (entry.uuid != null) {
+            nameKeys.remove(entry.uuid, key);
+        }
+    }
+
+    // Must hold this
+    private void prime(Map<UUID, FortressPlayerSession> sessions, long loadGeneration) {
+        for (FortressPlayerSession session : sessions.values()) {
+            index(session, loadGeneration);
+        }
+    }
+
+    // Must hold this
+    private boolean isStale(UUID uuid, long loadGeneration) {
+        return invalidatedAt[stripe(uuid)] > loadGeneration;
+    }
+
+    private static int stripe(UUID uuid) {
+        return uuid.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private synchronized <K> void remove(Map<K, Entry<FortressPlayerSession>> map, K key, Entry<FortressPlayerSession> entry) {
+        if (map.get(key) == entry) {
+            map.remove(key);
+        }
+    }
+
+    // Must hold this
+    private boolean isLive(Entry<?> entry) {
+        if (entry == null) return false;
+        return !entry.loaded || System.nanoTime() - entry.loadedAt < ttlNanos;
+    }
+
+    // Must hold this
+    private Entry<FortressPlayerSession> completed(FortressPlayerSession session) {
+        Entry<FortressPlayerSession> entry = new Entry<>(generation);
+        entry.future.complete(session);
+        entry.loadedAt = System.nanoTime();
+        entry.loaded = true;
+        return entry;
+    }
+
+    private static final class Entry<T> {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long generation;
+        // Guarded by the cache
+        private boolean loaded;
+        private long loadedAt;
+        // The player the entry resolved to, once loaded
+        private UUID uuid;
+
+        private Entry(long generation) {
+            this.generation = generation;
+        }
+
+        // Callers get their own future so completing or cancelling it cannot change the cached value
+        private CompletableFuture<T> view() {
+            return future.thenApply(value -> value);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package net.vulcandev.vulcanapi.fortress.data;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One batch of a keyset log scan.
+ */
+@Getter
+public final class FortressLogBatch {
+    public static final long NOT_COUNTED = -1L;
+
+    private final List<FortressLog> rows;
+    // Null once the scan has no more rows
+    private final FortressLogCursor nextCursor;
+    private final long totalRows;
+
+    public FortressLogBatch(List<FortressLog> rows, FortressLogCursor nextCursor, long totalRows) {
+        this.rows = rows == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(rows));
+        this.nextCursor = nextCursor;
+        this.totalRows = totalRows < 0L ? NOT_COUNTED : totalRows;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    public boolean isTotalCounted() {
+        return totalRows != NOT_COUNTED;
+    }
+}
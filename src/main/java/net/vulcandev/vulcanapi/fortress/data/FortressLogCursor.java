@@ -0,0 +1,55 @@
+package net.vulcandev.vulcanapi.fortress.data;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in a log scan, the {@code (loggedAt, id)} of the last row read. A keyset query continues strictly after
+ * it, so reading deep into the logs costs the same as reading the first rows.
+ */
+@Getter
+@EqualsAndHashCode
+public final class FortressLogCursor {
+    private final long loggedAt;
+    private final UUID id;
+
+    public FortressLogCursor(long loggedAt, UUID id) {
+        this.loggedAt = loggedAt;
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static FortressLogCursor of(FortressLog log) {
+        return new FortressLogCursor(log.getLoggedAt(), log.getId());
+    }
+
+    /**
+     * @return a compact form for passing the cursor through a URL or a staff panel request
+     */
+    public String encode() {
+        return loggedAt + ":" + id;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not made by {@link #encode()}
+     */
+    public static FortressLogCursor decode(String token) {
+        int separator = token == null ? -1 : token.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid log cursor: " + token);
+        }
+
+        try {
+            return new FortressLogCursor(Long.parseLong(token.substring(0, separator)), UUID.fromString(token.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid log cursor: " + token, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
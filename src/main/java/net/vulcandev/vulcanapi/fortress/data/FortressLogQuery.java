@@ -0,0 +1,37 @@
+package net.vulcandev.vulcanapi.fortress.data;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Filters for a keyset log scan. Null filters match every row, and {@code until} of 0 or less means no upper bound.
+ */
+@Getter
+public final class FortressLogQuery {
+    private final long since;
+    private final long until;
+    private final UUID target;
+    private final String checkName;
+    private final String checkType;
+    private final boolean newestFirst;
+    private final boolean countTotal;
+
+    /**
+     * @param newestFirst scan by descending {@code (loggedAt, id)} instead of ascending
+     * @param countTotal also count the matching rows, which costs a full scan of the index on large tables
+     */
+    public FortressLogQuery(long since, long until, UUID target, String checkName, String checkType, boolean newestFirst, boolean countTotal) {
+        this.since = Math.max(0L, since);
+        this.until = until;
+        this.target = target;
+        this.checkName = checkName;
+        this.checkType = checkType;
+        this.newestFirst = newestFirst;
+        this.countTotal = countTotal;
+    }
+
+    public boolean hasUpperBound() {
+        return until > 0L;
+    }
+}
@@ -1,7 +1,6 @@
 package net.vulcandev.vulcanapi.fortress.event.impl;
 
 import lombok.Getter;
-import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import org.bukkit.entity.Player;
@@ -16,9 +15,6 @@ public class AlertClickEvent extends VulcanEvent implements Cancellable {
     private final Player target;
     private final String targetName;
 
-    @Setter
-    private boolean cancelled = false;
-
     public AlertClickEvent(Player staff, Player target, String targetName) {
         this.staff = staff;
         this.target = target;
@@ -1,11 +1,13 @@
 package net.vulcandev.vulcanapi.fortress.event.impl;
 
 import lombok.Getter;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 
 @Getter
-public class AlertToggleEvent extends VulcanEvent {
+public class AlertToggleEvent extends VulcanEvent implements RoutableEvent {
     private final PlayerProfile player;
     private final boolean state;
 
@@ -22,4 +24,9 @@ public class AlertToggleEvent extends VulcanEvent {
     public boolean isCancellable() {
         return false;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid())};
+    }
 }
@@ -3,19 +3,18 @@ package net.vulcandev.vulcanapi.fortress.event.impl;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 import org.bukkit.Location;
 
 @Getter
-public class AttemptedCrashEvent extends VulcanEvent implements Cancellable {
+public class AttemptedCrashEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final PlayerProfile player;
     private final String reason;
     private final Location location;
 
-    @Setter
-    private boolean cancelled = false;
-
     @Setter
     private boolean autoKick = true;
 
@@ -29,4 +28,9 @@ public class AttemptedCrashEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid())};
+    }
 }
@@ -1,21 +1,19 @@
 package net.vulcandev.vulcanapi.fortress.event.impl;
 
 import lombok.Getter;
-import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 import org.bukkit.Location;
 
 @Getter
-public class AurabotDespawnEvent extends VulcanEvent implements Cancellable {
+public class AurabotDespawnEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final PlayerProfile player;
     private final int botId;
     private final Location location;
 
-    @Setter
-    private boolean cancelled = false;
-
     public AurabotDespawnEvent(PlayerProfile player, int id, Location location) {
         this.player = player;
         this.botId = id;
@@ -26,4 +24,9 @@ public class AurabotDespawnEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid())};
+    }
 }
@@ -3,20 +3,19 @@ package net.vulcandev.vulcanapi.fortress.event.impl;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 import org.bukkit.Location;
 
 @Getter
-public class GhostBlockEvent extends VulcanEvent implements Cancellable {
+public class GhostBlockEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final PlayerProfile player;
     private final String reason;
     private final Location playerLocation;
     private final Location blockLocation;
 
-    @Setter
-    private boolean cancelled = false;
-
     @Setter
     private boolean mitigated;
 
@@ -35,4 +34,9 @@ public class GhostBlockEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
-}
\ No newline at end of file
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid())};
+    }
+}
@@ -4,11 +4,13 @@ import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.fortress.check.CheckType;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 
 @Getter
-public class PlayerFlagEvent extends VulcanEvent implements Cancellable {
+public class PlayerFlagEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final PlayerProfile player;
     private final CheckType checkName;
     private final String checkType;
@@ -19,9 +21,6 @@ public class PlayerFlagEvent extends VulcanEvent implements Cancellable {
     private final int maxViolationLevel;
     private final String releaseType;
 
-    @Setter
-    private boolean cancelled = false;
-
     @Setter
     private boolean suppressAlert = false;
 
@@ -41,4 +40,10 @@ public class PlayerFlagEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid()), RoutingKey.of(RoutingKey.CHECK, checkName),
+                RoutingKey.of(RoutingKey.CATEGORY, checkName == null ? null : checkName.getCategory())};
+    }
 }
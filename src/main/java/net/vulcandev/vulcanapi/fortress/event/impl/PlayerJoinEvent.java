@@ -1,11 +1,13 @@
 package net.vulcandev.vulcanapi.fortress.event.impl;
 
 import lombok.Getter;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 
 @Getter
-public class PlayerJoinEvent extends VulcanEvent {
+public class PlayerJoinEvent extends VulcanEvent implements RoutableEvent {
     private final PlayerProfile player;
     private final int protocolVersion;
 
@@ -18,4 +20,9 @@ public class PlayerJoinEvent extends VulcanEvent {
     public boolean isCancellable() {
         return false;
     }
-}
\ No newline at end of file
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid())};
+    }
+}
@@ -1,17 +1,16 @@
 package net.vulcandev.vulcanapi.fortress.event.impl;
 
 import lombok.Getter;
-import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 
 @Getter
-public class PlayerKickEvent extends VulcanEvent implements Cancellable {
+public class PlayerKickEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final PlayerProfile player;
     private final String reason;
-    @Setter
-    private boolean cancelled = false;
 
     public PlayerKickEvent(PlayerProfile player, String reason) {
         this.player = player;
@@ -22,4 +21,9 @@ public class PlayerKickEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid())};
+    }
 }
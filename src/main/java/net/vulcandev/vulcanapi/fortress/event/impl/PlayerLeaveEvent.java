@@ -1,12 +1,14 @@
 package net.vulcandev.vulcanapi.fortress.event.impl;
 
 import lombok.Getter;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 
 import java.util.UUID;
 
 @Getter
-public class PlayerLeaveEvent extends VulcanEvent {
+public class PlayerLeaveEvent extends VulcanEvent implements RoutableEvent {
     private final UUID playerUuid;
 
     public PlayerLeaveEvent(UUID playerUuid) {
@@ -17,4 +19,9 @@ public class PlayerLeaveEvent extends VulcanEvent {
     public boolean isCancellable() {
         return false;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(playerUuid)};
+    }
 }
@@ -4,11 +4,13 @@ import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.fortress.check.CheckType;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
 
 @Getter
-public class PlayerPunishEvent extends VulcanEvent implements Cancellable {
+public class PlayerPunishEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final PlayerProfile player;
     private final CheckType checkName;
     private final String checkType;
@@ -18,9 +20,6 @@ public class PlayerPunishEvent extends VulcanEvent implements Cancellable {
     private final int violationLevel;
     private final int maxViolationLevel;
 
-    @Setter
-    private boolean cancelled = false;
-
     @Setter
     private String customPunishCommand;
 
@@ -39,4 +38,10 @@ public class PlayerPunishEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
-}
\ No newline at end of file
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUuid()), RoutingKey.of(RoutingKey.CHECK, checkName),
+                RoutingKey.of(RoutingKey.CATEGORY, checkName == null ? null : checkName.getCategory())};
+    }
+}
@@ -0,0 +1,16 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import java.util.List;
+
+/**
+ * Storage end of a {@link WriteBehindWriter}. Each call should commit the whole batch at once, for example as one
+ * JDBC batch in one transaction, and throw if any of it could not be stored so the writer can retry.
+ */
+@FunctionalInterface
+public interface BatchSink<T> {
+
+    /**
+     * @param batch the records in the order they were queued; only valid for the duration of the call
+     */
+    void write(List<T> batch) throws Exception;
+}
@@ -0,0 +1,72 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import lombok.Getter;
+import net.vulcandev.vulcanapi.fortress.data.FortressLog;
+import net.vulcandev.vulcanapi.fortress.data.FortressPunishment;
+
+/**
+ * Write-behind persistence for Fortress logs and punishments. Fortress supplies the sinks that store a batch, for
+ * example {@link JdbcBatchSink}s, and hands every new row to {@link #log} or {@link #punish} instead of writing it.
+ * Under load, logs below the low-value violation level are the first to be dropped; punishments are never dropped
+ * for being low value. Limits default to {@code fortress.write-behind} in VulcanAPI's config.
+ */
+public class FortressLogWriter implements AutoCloseable {
+
+    private static volatile WriteBehindSettings defaultSettings = WriteBehindSettings.DEFAULTS;
+    private static volatile int defaultLowValueViolation = 3;
+
+    @Getter
+    private final WriteBehindWriter<FortressLog> logWriter;
+    @Getter
+    private final WriteBehindWriter<FortressPunishment> punishmentWriter;
+
+    public FortressLogWriter(BatchSink<FortressLog> logSink, BatchSink<FortressPunishment> punishmentSink) {
+        this(logSink, punishmentSink, defaultSettings, defaultLowValueViolation);
+    }
+
+    /**
+     * @param lowValueViolation logs with a lower violation level may be dropped when the queue runs full
+     */
+    public FortressLogWriter(BatchSink<FortressLog> logSink, BatchSink<FortressPunishment> punishmentSink,
+                             WriteBehindSettings settings, int lowValueViolation) {
+        this.logWriter = new WriteBehindWriter<>("fortress-logs", logSink, settings, log -> log.getViolation() < lowValueViolation);
+        this.punishmentWriter = new WriteBehindWriter<>("fortress-punishments", punishmentSink, settings, punishment -> false);
+    }
+
+    /**
+     * Sets the limits used by writers created without explicit settings.
+     */
+    public static void setDefaults(WriteBehindSettings settings, int lowValueViolation) {
+        defaultSettings = settings == null ? WriteBehindSettings.DEFAULTS : settings;
+        defaultLowValueViolation = lowValueViolation;
+    }
+
+    /**
+     * @return false if the log was dropped
+     */
+    public boolean log(FortressLog log) {
+        return logWriter.offer(log);
+    }
+
+    /**
+     * @return false if the punishment was dropped
+     */
+    public boolean punish(FortressPunishment punishment) {
+        return punishmentWriter.offer(punishment);
+    }
+
+    /**
+     * Waits until everything queued so far has been written
+     * @return false if the timeout passed first
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        return logWriter.flush(timeoutMillis) && punishmentWriter.flush(Math.max(0L, deadline - System.currentTimeMillis()));
+    }
+
+    @Override
+    public void close() {
+        logWriter.close();
+        punishmentWriter.close();
+    }
+}
@@ -0,0 +1,65 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * {@link BatchSink} that inserts a batch with a single prepared statement and commits it as one transaction.
+ * Works with any JDBC driver, including an embedded database for tests.
+ */
+public class JdbcBatchSink<T> implements BatchSink<T> {
+
+    @FunctionalInterface
+    public interface StatementBinder<T> {
+        void bind(PreparedStatement statement, T record) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final StatementBinder<T> binder;
+
+    /**
+     * @param sql the insert statement, with one parameter per column bound by {@code binder}
+     */
+    public JdbcBatchSink(DataSource dataSource, String sql, StatementBinder<T> binder) {
+        this.dataSource = dataSource;
+        this.sql = sql;
+        this.binder = binder;
+    }
+
+    @Override
+    public void write(List<T> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            Throwable failure = null;
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (T record : batch) {
+                    binder.bind(statement, record);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                failure = e;
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            } finally {
+                // A failure here must not hide the one that caused the rollback
+                try {
+                    connection.setAutoCommit(autoCommit);
+                } catch (SQLException restoreFailure) {
+                    if (failure == null) throw restoreFailure;
+                    failure.addSuppressed(restoreFailure);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+/**
+ * What a {@link WriteBehindWriter} does when records arrive faster than they can be stored.
+ */
+public enum WriteBehindOverflowPolicy {
+    /**
+     * Every record is kept if there is room, waiting up to the offer timeout for it.
+     */
+    BLOCK,
+    /**
+     * Low-value records are dropped once the queue passes its low-value watermark, keeping the remaining room for
+     * the rest, which wait like {@link #BLOCK}.
+     */
+    DROP_LOW_VALUE
+}
@@ -0,0 +1,34 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Limits of a {@link WriteBehindWriter}. A batch is committed once it holds {@code maxBatchSize} records or its
+ * first record has waited {@code maxLatencyMillis}, whichever comes first.
+ */
+@Getter
+@AllArgsConstructor
+public final class WriteBehindSettings {
+    public static final WriteBehindSettings DEFAULTS = new WriteBehindSettings(
+            65_536, 500, 250L, 0L, WriteBehindOverflowPolicy.DROP_LOW_VALUE, 0.75, 3, 200L);
+
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long maxLatencyMillis;
+    /**
+     * How long a caller may wait for room in a full queue before its record is dropped; 0 never waits. Only set
+     * this when records are offered from a thread that may block, never the main or netty threads.
+     */
+    private final long offerTimeoutMillis;
+    private final WriteBehindOverflowPolicy overflowPolicy;
+    /**
+     * Share of the queue that may fill before low-value records are dropped.
+     */
+    private final double lowValueWatermark;
+    private final int maxRetries;
+    /**
+     * Wait before the first retry of a failed batch, doubled on each further retry.
+     */
+    private final long retryBackoffMillis;
+}
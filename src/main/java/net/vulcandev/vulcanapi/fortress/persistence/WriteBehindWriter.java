@@ -0,0 +1,305 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import lombok.Getter;
+import net.vulcandev.vulcanapi.event.metrics.LatencyRecorder;
+import net.vulcandev.vulcanapi.event.metrics.LatencySnapshot;
+import net.xantharddev.vulcanlib.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Bounded write-behind queue that group-commits records to a {@link BatchSink} from its own thread. Callers only pay
+ * for a queue insert, and a burst of records is stored in a few large batches instead of one write each. A failed
+ * batch is retried with back-off and dropped, with a log line, once its retries run out.
+ *
+ * <p>When the queue is full, callers wait up to the offer timeout, 0 by default, and their record is dropped after
+ * that. A non-zero timeout blocks the calling thread, so it must not be used for records offered from the main or
+ * netty threads. With {@link WriteBehindOverflowPolicy#DROP_LOW_VALUE} records matching the low-value test are
+ * dropped straight away once the queue passes its watermark.</p>
+ */
+public class WriteBehindWriter<T> implements AutoCloseable {
+
+    private static final List<WriteBehindWriter<?>> WRITERS = new CopyOnWriteArrayList<>();
+    private static final long IDLE_POLL_MILLIS = 500L;
+    private static final long DROP_WARNING_INTERVAL_MS = 30_000L;
+
+    @Getter
+    private final String name;
+    private final BatchSink<T> sink;
+    @Getter
+    private final WriteBehindSettings settings;
+    private final Predicate<? super T> lowValue;
+    private final BlockingQueue<T> queue;
+    private final int lowValueLimit;
+    private final Thread flusher;
+    private volatile boolean closing;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder droppedLowValue = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong lastDropWarning = new AtomicLong();
+    private final LatencyRecorder commitLatency = new LatencyRecorder();
+    private volatile int lastBatchSize;
+    private volatile int largestBatchSize;
+
+    /**
+     * Starts the writer's flush thread
+     * @param lowValue records that may be dropped first under {@link WriteBehindOverflowPolicy#DROP_LOW_VALUE}
+     */
+    public WriteBehindWriter(String name, BatchSink<T> sink, WriteBehindSettings settings, Predicate<? super T> lowValue) {
+        this.name = name;
+        this.sink = sink;
+        this.settings = settings;
+        this.lowValue = lowValue;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+        this.lowValueLimit = (int) Math.max(0L, Math.round(settings.getQueueCapacity() * settings.getLowValueWatermark()));
+
+        this.flusher = new Thread(this::run, "VulcanAPI-WriteBehind-" + name);
+        flusher.setDaemon(true);
+        flusher.start();
+        WRITERS.add(this);
+    }
+
+    /**
+     * @return every writer that has not been closed, for metrics
+     */
+    public static List<WriteBehindWriter<?>> getWriters() {
+        return Collections.unmodifiableList(WRITERS);
+    }
+
+    /**
+     * Queues a record to be written. Waits up to the offer timeout while the queue is full
+     * @return false if the record was dropped because the queue was full or the writer is closed
+     */
+    public boolean offer(T record) {
+        if (closing) {
+            dropped.increment();
+            return false;
+        }
+
+        if (settings.getOverflowPolicy() == WriteBehindOverflowPolicy.DROP_LOW_VALUE
+                && queue.size() >= lowValueLimit && lowValue.test(record)) {
+            droppedLowValue.increment();
+            return false;
+        }
+
+        boolean added = queue.offer(record);
+        if (!added && settings.getOfferTimeoutMillis() > 0L) {
+            try {
+                added = queue.offer(record, settings.getOfferTimeoutMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!added) {
+            dropped.increment();
+            warnDropped();
+            return false;
+        }
+
+        // close() may have drained the queue between the closing check and the insert, leaving the record behind
+        // for good. If it is still queued it is taken back, otherwise the flusher or the drain has it
+        if (closing && queue.remove(record)) {
+            dropped.increment();
+            return false;
+        }
+
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Waits until every record queued before this call has been written or given up on
+     * @return false if the timeout passed first
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        long target = accepted.sum();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (completed) {
+            while (completed.get() < target) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0L) return false;
+                completed.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting records, writes what is still queued and stops the flush thread
+     * @param timeoutMillis how long to wait for the queue to drain; records still queued after it are dropped
+     */
+    public void close(long timeoutMillis) {
+        closing = true;
+        WRITERS.remove(this);
+        try {
+            flusher.join(Math.max(1L, timeoutMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (flusher.isAlive()) {
+            flusher.interrupt();
+        }
+        int left = 0;
+        while (queue.poll() != null) {
+            left++;
+        }
+        if (left > 0) {
+            dropped.add(left);
+            // Counted as done so a flush waiting on them returns instead of running out its timeout
+            complete(left);
+            Logger.log("&cWrite-behind " + name + " closed with " + left + " records still queued");
+        }
+    }
+
+    @Override
+    public void close() {
+        close(10_000L);
+    }
+
+    public boolean isClosed() {
+        return closing;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getDroppedLowValueCount() {
+        return droppedLowValue.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * @return records dropped because their batch still failed after every retry
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public int getLargestBatchSize() {
+        return largestBatchSize;
+    }
+
+    /**
+     * @return time spent in {@link BatchSink#write} for each committed batch
+     */
+    public LatencySnapshot getCommitLatency() {
+        return commitLatency.snapshot();
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(settings.getMaxBatchSize());
+        int batchLimit = Math.max(1, settings.getMaxBatchSize());
+        long maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(settings.getMaxLatencyMillis());
+
+        try {
+            while (true) {
+                T first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closing) return;
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (batch.size() < batchLimit) {
+                    queue.drainTo(batch, batchLimit - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    // Closing flushes right away instead of waiting out the latency window
+                    if (batch.size() >= batchLimit || remaining <= 0L || closing) break;
+
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Interrupted by close after its timeout, the remaining records are counted as dropped there
+            if (!batch.isEmpty()) {
+                failed.add(batch.size());
+                complete(batch.size());
+            }
+        }
+    }
+
+    private void commit(List<T> batch) throws InterruptedException {
+        List<T> view = Collections.unmodifiableList(batch);
+        for (int attempt = 0; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                sink.write(view);
+                commitLatency.record(System.nanoTime() - start);
+                written.add(batch.size());
+                batches.increment();
+                lastBatchSize = batch.size();
+                if (batch.size() > largestBatchSize) largestBatchSize = batch.size();
+                break;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Throwable e) {
+                // Errors from the sink are handled like any failure, so they never take the flush thread down
+                if (attempt >= settings.getMaxRetries()) {
+                    failed.add(batch.size());
+                    Logger.log("&cWrite-behind " + name + " dropped a batch of " + batch.size() + " records after "
+                            + (attempt + 1) + " attempts: " + e);
+                    break;
+                }
+                Thread.sleep(settings.getRetryBackoffMillis() << Math.min(attempt, 10));
+            }
+        }
+        complete(batch.size());
+    }
+
+    private void complete(int count) {
+        synchronized (completed) {
+            completed.addAndGet(count);
+            completed.notifyAll();
+        }
+    }
+
+    private void warnDropped() {
+        long now = System.currentTimeMillis();
+        long last = lastDropWarning.get();
+        if (now - last >= DROP_WARNING_INTERVAL_MS && lastDropWarning.compareAndSet(last, now)) {
+            Logger.log("&cWrite-behind " + name + " queue is full, " + dropped.sum() + " records dropped so far");
+        }
+    }
+}
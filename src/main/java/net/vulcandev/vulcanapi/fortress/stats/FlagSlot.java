@@ -0,0 +1,68 @@
+package net.vulcandev.vulcanapi.fortress.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Aggregates of the flags logged during one minute or one hour. Reset in place when the ring wraps around to it.
+ * Not thread safe, {@link FortressFlagStats} holds the slot's monitor while using it.
+ */
+final class FlagSlot {
+
+    long epoch = -1L;
+    long total;
+    int maxVl;
+    long pingSum;
+    long lastFlagAt;
+    // Check name, then check type
+    final Map<String, Map<String, CheckCounter>> checks = new HashMap<>();
+    final byte[] players = new byte[HyperLogLog.REGISTERS];
+    final TopPlayerSketch topPlayers;
+
+    FlagSlot(int topPlayerCapacity) {
+        this.topPlayers = new TopPlayerSketch(topPlayerCapacity);
+    }
+
+    void reset(long epoch) {
+        this.epoch = epoch;
+        total = 0L;
+        maxVl = 0;
+        pingSum = 0L;
+        lastFlagAt = 0L;
+        checks.clear();
+        HyperLogLog.clear(players);
+        topPlayers.clear();
+    }
+
+    void record(UUID player, String checkName, String checkType, int violationLevel, long ping, long timestamp) {
+        total++;
+        maxVl = Math.max(maxVl, violationLevel);
+        pingSum += Math.max(0L, ping);
+        lastFlagAt = Math.max(lastFlagAt, timestamp);
+
+        Map<String, CheckCounter> byType = checks.computeIfAbsent(checkName, k -> new HashMap<>());
+        CheckCounter counter = byType.get(checkType);
+        if (counter == null) {
+            counter = new CheckCounter(checkName, checkType);
+            byType.put(checkType, counter);
+        }
+        counter.count++;
+
+        if (player != null) {
+            HyperLogLog.add(players, player);
+            topPlayers.offer(player, violationLevel, timestamp);
+        }
+    }
+
+    static final class CheckCounter {
+        final String checkName;
+        final String checkType;
+        long count;
+
+        CheckCounter(String checkName, String checkType) {
+            this.checkName = checkName;
+            this.checkType = checkType;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.vulcandev.vulcanapi.fortress.stats;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Windows answered by {@link FortressFlagStats}. Windows up to an hour are kept per minute and longer ones per
+ * hour, so a window covers its length minus at most one slot of the oldest end.
+ */
+@Getter
+public enum FlagStatsWindow {
+    ONE_MINUTE(TimeUnit.MINUTES.toMillis(1)),
+    FIVE_MINUTES(TimeUnit.MINUTES.toMillis(5)),
+    FIFTEEN_MINUTES(TimeUnit.MINUTES.toMillis(15)),
+    ONE_HOUR(TimeUnit.HOURS.toMillis(1)),
+    SIX_HOURS(TimeUnit.HOURS.toMillis(6)),
+    ONE_DAY(TimeUnit.DAYS.toMillis(1));
+
+    private final long millis;
+
+    FlagStatsWindow(long millis) {
+        this.millis = millis;
+    }
+}
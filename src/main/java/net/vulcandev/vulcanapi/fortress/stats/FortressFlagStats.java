@@ -0,0 +1,188 @@
+package net.vulcandev.vulcanapi.fortress.stats;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.fortress.data.FortressLogStats;
+import net.vulcandev.vulcanapi.fortress.event.impl.PlayerFlagEvent;
+import net.vulcandev.vulcanapi.fortress.player.PlayerProfile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flag statistics kept up to date as each {@link PlayerFlagEvent} goes through the event bus, so dashboards can
+ * poll them without a database query. Flags are added to a ring of minute slots covering the last hour and a ring
+ * of hour slots covering the last day. Each slot counts flags per check, estimates unique players with a
+ * HyperLogLog and tracks the most flagged players with a Space-Saving sketch, so a query merges a fixed number of
+ * fixed-size slots whatever the flag volume. Unique players are estimated, and top player counts are lower bounds
+ * that are exact for players who stayed among the 64 most flagged of each slot.
+ *
+ * <p>Each slot has its own lock, so recording a flag never waits for more than a query merging that one slot.</p>
+ */
+public class FortressFlagStats {
+
+    private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int TOP_PLAYER_CAPACITY = 64;
+
+    // Each slot is guarded by its own monitor
+    private final FlagSlot[] minutes = newRing(60);
+    private final FlagSlot[] hours = newRing(24);
+    // Guarded by this
+    private EventSubscription subscription;
+
+    private FortressFlagStats() {}
+
+    private static final class InstanceHolder {
+        static final FortressFlagStats instance = new FortressFlagStats();
+    }
+
+    public static FortressFlagStats getInstance() {
+        return InstanceHolder.instance;
+    }
+
+    /**
+     * Starts counting flags fired through the given event bus. Cancelled flags are not logged by Fortress and are
+     * not counted, so the handler runs at {@link EventPriority#LOWEST}, after every handler that could cancel.
+     */
+    public synchronized void attach(VulcanEventManager manager) {
+        if (subscription != null && subscription.isActive()) return;
+        subscription = manager.subscribe(PlayerFlagEvent.class, EventPriority.LOWEST, true, this::onFlag);
+    }
+
+    /**
+     * Stops counting and forgets every slot.
+     */
+    public synchronized void detach() {
+        if (subscription != null) {
+            subscription.close();
+            subscription = null;
+        }
+        clear();
+    }
+
+    public synchronized boolean isAttached() {
+        return subscription != null && subscription.isActive();
+    }
+
+    /**
+     * Adds a single logged flag. Called for every flag while attached, and usable directly by a Fortress build that
+     * logs flags without firing an event. Flags older than a day are ignored
+     * @param player the flagged player, or null if unknown
+     */
+    public void record(UUID player, String checkName, String checkType, int violationLevel, long ping, long timestamp) {
+        record(minutes, MINUTE_MILLIS, player, checkName, checkType, violationLevel, ping, timestamp);
+        record(hours, HOUR_MILLIS, player, checkName, checkType, violationLevel, ping, timestamp);
+    }
+
+    /**
+     * Gets the flag statistics of a recent window, in the same shape as {@link net.vulcandev.vulcanapi.fortress.FortressAPI#getLogStats}
+     * @param topChecks how many of the most flagged checks to include
+     * @param topPlayers how many of the most flagged players to include, at most 64 are tracked per slot
+     */
+    public FortressLogStats getStats(FlagStatsWindow window, int topChecks, int topPlayers) {
+        boolean hourly = window.getMillis() > HOUR_MILLIS;
+        FlagSlot[] ring = hourly ? hours : minutes;
+        long slotMillis = hourly ? HOUR_MILLIS : MINUTE_MILLIS;
+        long newest = System.currentTimeMillis() / slotMillis;
+        long oldest = newest - Math.max(1L, window.getMillis() / slotMillis) + 1;
+
+        long total = 0L;
+        int maxVl = 0;
+        long pingSum = 0L;
+        long lastFlagAt = 0L;
+        byte[] players = new byte[HyperLogLog.REGISTERS];
+        Map<String, Map<String, Long>> checks = new HashMap<>();
+        Map<UUID, FortressLogStats.TopPlayer> top = new HashMap<>();
+
+        for (FlagSlot slot : ring) {
+            synchronized (slot) {
+                if (slot.epoch < oldest || slot.epoch > newest || slot.total == 0L) continue;
+
+                total += slot.total;
+                maxVl = Math.max(maxVl, slot.maxVl);
+                pingSum += slot.pingSum;
+                lastFlagAt = Math.max(lastFlagAt, slot.lastFlagAt);
+                HyperLogLog.merge(players, slot.players);
+
+                for (Map<String, FlagSlot.CheckCounter> byType : slot.checks.values()) {
+                    for (FlagSlot.CheckCounter counter : byType.values()) {
+                        checks.computeIfAbsent(counter.checkName, k -> new HashMap<>()).merge(counter.checkType, counter.count, Long::sum);
+                    }
+                }
+
+                // Counts inherited from an evicted player are left out, so a player is never shown with more flags than they had
+                for (TopPlayerSketch.Counter counter : slot.topPlayers.getCounters()) {
+                    long flags = counter.count - counter.error;
+                    top.merge(counter.player, new FortressLogStats.TopPlayer(counter.player, flags, counter.maxVl, counter.lastFlagAt),
+                            (a, b) -> new FortressLogStats.TopPlayer(a.getUuid(), a.getFlags() + b.getFlags(),
+                                    Math.max(a.getMaxVl(), b.getMaxVl()), Math.max(a.getLastFlagAt(), b.getLastFlagAt())));
+                }
+            }
+        }
+
+        List<FortressLogStats.CheckCount> checkCounts = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Long>> byName : checks.entrySet()) {
+            for (Map.Entry<String, Long> byType : byName.getValue().entrySet()) {
+                checkCounts.add(new FortressLogStats.CheckCount(byName.getKey(), byType.getKey(), byType.getValue()));
+            }
+        }
+        checkCounts.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+
+        List<FortressLogStats.TopPlayer> topList = new ArrayList<>(top.values());
+        topList.sort((a, b) -> Long.compare(b.getFlags(), a.getFlags()));
+
+        long uniquePlayers = total == 0L ? 0L : Math.min(total, HyperLogLog.estimate(players));
+        int avgPing = total == 0L ? 0 : (int) (pingSum / total);
+        return new FortressLogStats(total, uniquePlayers, maxVl, avgPing, lastFlagAt,
+                checkCounts.subList(0, Math.min(Math.max(0, topChecks), checkCounts.size())),
+                topList.subList(0, Math.min(Math.max(0, topPlayers), topList.size())));
+    }
+
+    public void clear() {
+        for (FlagSlot slot : minutes) reset(slot);
+        for (FlagSlot slot : hours) reset(slot);
+    }
+
+    private void onFlag(PlayerFlagEvent event) {
+        PlayerProfile profile = event.getPlayer();
+        record(profile == null ? null : profile.getUuid(),
+                event.getCheckName() == null ? "UNKNOWN" : event.getCheckName().name(),
+                event.getCheckType(),
+                event.getViolationLevel(),
+                profile == null ? 0L : profile.getPing(),
+                event.getTimestamp());
+    }
+
+    private static void record(FlagSlot[] ring, long slotMillis, UUID player, String checkName, String checkType,
+                               int violationLevel, long ping, long timestamp) {
+        long epoch = timestamp / slotMillis;
+        FlagSlot slot = ring[(int) Math.floorMod(epoch, (long) ring.length)];
+        synchronized (slot) {
+            // A late flag whose slot was already reused for a newer period has fallen out of the ring
+            if (slot.epoch > epoch) return;
+            if (slot.epoch < epoch) slot.reset(epoch);
+
+            slot.record(player, checkName, checkType, violationLevel, ping, timestamp);
+        }
+    }
+
+    private static void reset(FlagSlot slot) {
+        synchronized (slot) {
+            slot.reset(-1L);
+        }
+    }
+
+    private static FlagSlot[] newRing(int size) {
+        FlagSlot[] ring = new FlagSlot[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new FlagSlot(TOP_PLAYER_CAPACITY);
+        }
+        return ring;
+    }
+}
@@ -0,0 +1,63 @@
+package net.vulcandev.vulcanapi.fortress.stats;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Distinct player estimate in 1 KiB per slot, about 3% standard error. Registers of several slots merge by taking
+ * the maximum, so a window's unique count never double counts a player seen in more than one slot.
+ */
+final class HyperLogLog {
+
+    private static final int PRECISION = 10;
+    static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1.0 + 1.079 / REGISTERS);
+
+    private HyperLogLog() {}
+
+    static void add(byte[] registers, UUID id) {
+        long hash = hash(id);
+        int index = (int) (hash >>> (64 - PRECISION));
+        // The sentinel bit caps the rank at 64 - PRECISION + 1
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+    }
+
+    static void merge(byte[] into, byte[] from) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (from[i] > into[i]) into[i] = from[i];
+        }
+    }
+
+    static void clear(byte[] registers) {
+        Arrays.fill(registers, (byte) 0);
+    }
+
+    static long estimate(byte[] registers) {
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // Linear counting is far more accurate while most registers are still empty
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private static long hash(UUID id) {
+        long h = id.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ id.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,65 @@
+package net.vulcandev.vulcanapi.fortress.stats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Space-Saving heavy hitters: a fixed number of counters, where a new player takes over the smallest counter and
+ * inherits its count. Any player with more than total / capacity flags is guaranteed to be kept, and counts are
+ * overestimated by at most the inherited {@link Counter#error}.
+ */
+final class TopPlayerSketch {
+
+    private final int capacity;
+    private final Map<UUID, Counter> counters;
+
+    TopPlayerSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void offer(UUID player, int violationLevel, long timestamp) {
+        Counter counter = counters.get(player);
+        if (counter == null) {
+            counter = counters.size() < capacity ? new Counter() : evictSmallest();
+            counter.player = player;
+            counters.put(player, counter);
+        }
+
+        counter.count++;
+        counter.maxVl = Math.max(counter.maxVl, violationLevel);
+        counter.lastFlagAt = Math.max(counter.lastFlagAt, timestamp);
+    }
+
+    Collection<Counter> getCounters() {
+        return counters.values();
+    }
+
+    void clear() {
+        counters.clear();
+    }
+
+    // Reuses the smallest counter for the newcomer, which inherits its count as error
+    private Counter evictSmallest() {
+        Counter smallest = null;
+        for (Counter counter : counters.values()) {
+            if (smallest == null || counter.count < smallest.count) smallest = counter;
+        }
+
+        counters.remove(smallest.player);
+        smallest.error = smallest.count;
+        smallest.maxVl = 0;
+        smallest.lastFlagAt = 0L;
+        return smallest;
+    }
+
+    static final class Counter {
+        UUID player;
+        long count;
+        long error;
+        int maxVl;
+        long lastFlagAt;
+    }
+}
@@ -1,5 +1,6 @@
 package net.vulcandev.vulcanapi.interfaces.tools;
 
+import net.vulcandev.vulcanapi.metrics.MetricsProvider;
 import net.vulcandev.vulcanapi.vulcantools.interfaces.IBoosterManager;
 import net.vulcandev.vulcanapi.vulcantools.interfaces.ICurrencyManager;
 import net.vulcandev.vulcanapi.vulcantools.interfaces.IEventManager;
@@ -8,8 +9,9 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Interface for VulcanTools plugin to avoid direct class dependencies
  * This allows VulcanAPI to work with VulcanTools across classloader boundaries
+ * Gauges returned by {@link #getMetrics()} are exported as vulcanapi_vulcantools_*
  */
-public interface IVulcanToolsPlugin {
+public interface IVulcanToolsPlugin extends MetricsProvider {
     /**
      * Gets the currency manager interface
      * @return the currency manager interface
@@ -0,0 +1,19 @@
+package net.vulcandev.vulcanapi.listener;
+
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+
+/**
+ * Removes every VulcanEvent handler owned by a plugin when Bukkit disables it, so a plugin that reloads
+ * without unregistering does not keep its old handlers, or its classloader, alive.
+ */
+public class PluginDisableListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        VulcanEventManager.getInstance().unregisterAll(event.getPlugin());
+    }
+}
@@ -0,0 +1,43 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A named metric with its help text, type and every labelled sample taken in one collection.
+ */
+@Getter
+public final class MetricFamily {
+    private final String name;
+    private final String help;
+    private final MetricType type;
+    private final List<MetricSample> samples = new ArrayList<>();
+
+    public MetricFamily(String name, String help, MetricType type) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+    }
+
+    public List<MetricSample> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    MetricFamily add(double value, String... labels) {
+        return addSample(name, value, labels);
+    }
+
+    MetricFamily addSample(String sampleName, double value, String... labels) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            map.put(labels[i], labels[i + 1]);
+        }
+        samples.add(new MetricSample(sampleName, map, value));
+        return this;
+    }
+}
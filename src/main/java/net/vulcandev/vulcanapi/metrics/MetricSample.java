@@ -0,0 +1,18 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * A single value of a {@link MetricFamily}. The name differs from the family name for summary parts
+ * such as {@code _sum} and {@code _count}.
+ */
+@Getter
+@AllArgsConstructor
+public final class MetricSample {
+    private final String name;
+    private final Map<String, String> labels;
+    private final double value;
+}
@@ -0,0 +1,11 @@
+package net.vulcandev.vulcanapi.metrics;
+
+public enum MetricType {
+    GAUGE,
+    COUNTER,
+    SUMMARY;
+
+    String getExpositionName() {
+        return name().toLowerCase();
+    }
+}
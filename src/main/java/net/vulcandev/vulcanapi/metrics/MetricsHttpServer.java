@@ -0,0 +1,91 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves {@link VulcanMetrics#scrape()} over plain HTTP for Prometheus to pull. Uses the JDK's built-in server on a
+ * single daemon thread, so scrapes never touch the main thread. Bind it to a loopback or private address, it has no
+ * authentication.
+ */
+public class MetricsHttpServer {
+
+    public static final String PATH = "/metrics";
+
+    private final String host;
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MetricsHttpServer(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public synchronized void start() throws IOException {
+        if (server != null) return;
+
+        HttpServer created = HttpServer.create(new InetSocketAddress(host, port), 0);
+        created.createContext(PATH, this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "VulcanAPI-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+    }
+
+    public synchronized void stop() {
+        if (server == null) return;
+
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * @return the address actually bound, which tells the port chosen when started with port 0
+     */
+    public synchronized InetSocketAddress getAddress() {
+        return server == null ? null : server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals(PATH)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = VulcanMetrics.getInstance().scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormat.CONTENT_TYPE);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
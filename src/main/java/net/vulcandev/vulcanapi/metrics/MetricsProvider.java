@@ -0,0 +1,20 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Lets a Vulcan module publish its own gauges through VulcanAPI's metrics endpoint.
+ * Implementations are read from the metrics thread, so the values must be safe to read off the main thread.
+ */
+public interface MetricsProvider {
+
+    /**
+     * Gets the module's current gauge values, keyed by a short name such as {@code online_profiles}.
+     * Names are prefixed with the module name when exported
+     * @return the gauge values, empty if the module publishes none
+     */
+    default Map<String, Number> getMetrics() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,71 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes metric families in the Prometheus text exposition format, version 0.0.4.
+ */
+public final class PrometheusTextFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusTextFormat() {}
+
+    public static void write(List<MetricFamily> families, Appendable out) throws IOException {
+        for (MetricFamily family : families) {
+            if (family.getSamples().isEmpty()) continue;
+
+            out.append("# HELP ").append(family.getName()).append(' ').append(escapeHelp(family.getHelp())).append('\n');
+            out.append("# TYPE ").append(family.getName()).append(' ').append(family.getType().getExpositionName()).append('\n');
+            for (MetricSample sample : family.getSamples()) {
+                out.append(sample.getName());
+                writeLabels(sample.getLabels(), out);
+                out.append(' ').append(formatValue(sample.getValue())).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Replaces every character Prometheus does not allow in a metric name with an underscore
+     */
+    public static String sanitizeName(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = c == '_' || c == ':' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (i > 0 && c >= '0' && c <= '9');
+            builder.append(valid ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    private static void writeLabels(Map<String, String> labels, Appendable out) throws IOException {
+        if (labels.isEmpty()) return;
+
+        out.append('{');
+        Iterator<Map.Entry<String, String>> iterator = labels.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> label = iterator.next();
+            out.append(label.getKey()).append("=\"").append(escapeLabel(label.getValue())).append('"');
+            if (iterator.hasNext()) out.append(',');
+        }
+        out.append('}');
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return Double.toString(value);
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,264 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import net.vulcandev.vulcanapi.event.metrics.EventTypeStats;
+import net.vulcandev.vulcanapi.event.metrics.HandlerStats;
+import net.vulcandev.vulcanapi.event.metrics.LatencySnapshot;
+import net.vulcandev.vulcanapi.fortress.FortressAPI;
+import net.vulcandev.vulcanapi.fortress.alts.FortressAltIndex;
+import net.vulcandev.vulcanapi.fortress.cache.FortressSessionCache;
+import net.vulcandev.vulcanapi.fortress.persistence.WriteBehindWriter;
+import net.vulcandev.vulcanapi.replay.ReplayAPI;
+import net.vulcandev.vulcanapi.scheduler.MainThreadQueue;
+import net.vulcandev.vulcanapi.vulcancrates.VulcanCratesAPI;
+import net.vulcandev.vulcanapi.vulcanenchants.VulcanEnchantsAPI;
+import net.vulcandev.vulcanapi.vulcanevents.VulcanEventsAPI;
+import net.vulcandev.vulcanapi.vulcangenblocks.VulcanGenBlocksAPI;
+import net.vulcandev.vulcanapi.vulcanstaff.VulcanStaffAPI;
+import net.vulcandev.vulcanapi.vulcanstats.VulcanStatsAPI;
+import net.vulcandev.vulcanapi.vulcantools.VulcanToolsAPI;
+import net.vulcandev.vulcanapi.vulcanvoting.VulcanVotingAPI;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Pull API for VulcanAPI's runtime figures: event dispatch counts and latency, handler latency, pending queue
+ * depths, cache hit rates, write-behind queues, module availability and whatever gauges the Fortress, Replay and VulcanTools modules publish through
+ * {@link MetricsProvider}. {@link #collect()} returns the values as objects, {@link #scrape()} as Prometheus text.
+ * Both may be called from any thread.
+ */
+public class VulcanMetrics {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    // The numbering after $$Lambda changes on every restart, so lambda handlers are labelled by their defining class
+    private static final Pattern LAMBDA_SUFFIX = Pattern.compile("\\$\\$Lambda[^#]*");
+
+    private final Map<String, BooleanSupplier> modules = new LinkedHashMap<>();
+    private final Map<String, Supplier<MetricsProvider>> providers = new LinkedHashMap<>();
+
+    private VulcanMetrics() {
+        modules.put("vulcanevents", VulcanEventsAPI::isAvailable);
+        modules.put("vulcanstaff", VulcanStaffAPI::isAvailable);
+        modules.put("vulcantools", VulcanToolsAPI::isAvailable);
+        modules.put("vulcancrates", VulcanCratesAPI::isAvailable);
+        modules.put("vulcanenchants", VulcanEnchantsAPI::isAvailable);
+        modules.put("vulcangenblocks", VulcanGenBlocksAPI::isAvailable);
+        modules.put("vulcanstats", VulcanStatsAPI::isAvailable);
+        modules.put("vulcanvoting", VulcanVotingAPI::isAvailable);
+        modules.put("fortress", () -> FortressAPI.getInstance() != null && FortressAPI.getInstance().isEnabled());
+        modules.put("replay", () -> ReplayAPI.getInstance() != null && ReplayAPI.getInstance().isEnabled());
+
+        providers.put("fortress", FortressAPI::getInstance);
+        providers.put("replay", ReplayAPI::getInstance);
+        providers.put("vulcantools", () -> VulcanToolsAPI.isAvailable() ? VulcanToolsAPI.getInstance().getPlugin() : null);
+    }
+
+    private static final class InstanceHolder {
+        static final VulcanMetrics instance = new VulcanMetrics();
+    }
+
+    public static VulcanMetrics getInstance() {
+        return InstanceHolder.instance;
+    }
+
+    /**
+     * Takes a snapshot of every metric
+     * @return the metric families in exposition order
+     */
+    public List<MetricFamily> collect() {
+        List<MetricFamily> families = new ArrayList<>();
+        collectEvents(families);
+        collectQueues(families);
+        collectCaches(families);
+        collectWriters(families);
+        collectModules(families);
+        return families;
+    }
+
+    /**
+     * Takes a snapshot of every metric in the Prometheus text exposition format
+     * @return the text served at the metrics endpoint
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        try {
+            PrometheusTextFormat.write(collect(), out);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    private void collectEvents(List<MetricFamily> families) {
+        VulcanEventManager manager = VulcanEventManager.getInstance();
+
+        MetricFamily dispatched = new MetricFamily("vulcanapi_events_dispatched_total",
+                "Events fired with handlers attached, by event type. Reset by /vulcanapi events reset.", MetricType.COUNTER);
+        MetricFamily dispatchLatency = new MetricFamily("vulcanapi_event_dispatch_seconds",
+                "Time spent running the synchronous handlers of one event, by event type.", MetricType.SUMMARY);
+        MetricFamily handlerCount = new MetricFamily("vulcanapi_event_handlers",
+                "Handlers registered for an event type.", MetricType.GAUGE);
+
+        // Prometheus rejects a whole scrape with a duplicate series, so stats sharing a label set are summed first.
+        // Event types are labelled by simple name, which two packages can share
+        Map<String, EventTypeStats> eventTypes = new LinkedHashMap<>();
+        for (EventTypeStats stats : manager.getEventTypeStats()) {
+            eventTypes.merge(stats.getEventType(), stats, (a, b) -> new EventTypeStats(a.getEventType(),
+                    a.getHandlerCount() + b.getHandlerCount(), a.getLatency().merge(b.getLatency())));
+        }
+        for (EventTypeStats stats : eventTypes.values()) {
+            String type = stats.getEventType();
+            dispatched.add(stats.getLatency().getCount(), "event_type", type);
+            addSummary(dispatchLatency, stats.getLatency(), "event_type", type);
+            handlerCount.add(stats.getHandlerCount(), "event_type", type);
+        }
+
+        MetricFamily handlerLatency = new MetricFamily("vulcanapi_handler_seconds",
+                "Time spent in one handler call, by handler.", MetricType.SUMMARY);
+        MetricFamily quarantined = new MetricFamily("vulcanapi_handler_quarantined",
+                "1 while a handler is quarantined by its circuit breaker.", MetricType.GAUGE);
+
+        // Two instances of a listener, or one lambda subscribed twice, share their labels
+        Map<List<String>, HandlerStats> handlers = new LinkedHashMap<>();
+        for (HandlerStats stats : manager.getHandlerStats()) {
+            List<String> labels = Arrays.asList("handler", LAMBDA_SUFFIX.matcher(stats.getHandlerName()).replaceFirst("\\$\\$Lambda"),
+                    "event_type", stats.getEventType(), "priority", stats.getPriority().name());
+            handlers.merge(labels, stats, (a, b) -> new HandlerStats(a.getListenerName(), a.getMethodName(), a.getEventType(),
+                    a.getPriority(), a.isAsync(), a.isQuarantined() || b.isQuarantined(), a.getLatency().merge(b.getLatency())));
+        }
+        for (Map.Entry<List<String>, HandlerStats> entry : handlers.entrySet()) {
+            String[] labels = entry.getKey().toArray(new String[0]);
+            addSummary(handlerLatency, entry.getValue().getLatency(), labels);
+            quarantined.add(entry.getValue().isQuarantined() ? 1 : 0, labels);
+        }
+
+        families.add(dispatched);
+        families.add(dispatchLatency);
+        families.add(handlerCount);
+        families.add(handlerLatency);
+        families.add(quarantined);
+        families.add(new MetricFamily("vulcanapi_listeners", "Registered VulcanListener handlers.", MetricType.GAUGE)
+                .add(manager.getTotalListenerCount()));
+    }
+
+    private void collectQueues(List<MetricFamily> families) {
+        VulcanEventManager manager = VulcanEventManager.getInstance();
+        MainThreadQueue mainThread = MainThreadQueue.getInstance();
+
+        families.add(new MetricFamily("vulcanapi_queue_pending", "Tasks waiting in a VulcanAPI queue.", MetricType.GAUGE)
+                .add(manager.getPendingAsyncEvents(), "queue", "async")
+                .add(manager.getPendingOrderedEvents(), "queue", "ordered")
+                .add(mainThread.getQueueDepth(), "queue", "main_thread"));
+        families.add(new MetricFamily("vulcanapi_queue_dropped_total", "Events dropped because a worker queue was full.", MetricType.COUNTER)
+                .add(manager.getDroppedAsyncEvents(), "queue", "async")
+                .add(manager.getDroppedOrderedEvents(), "queue", "ordered"));
+        families.add(new MetricFamily("vulcanapi_main_thread_lag_seconds", "Age of the oldest task waiting for the main thread.", MetricType.GAUGE)
+                .add(mainThread.getLagMillis() / 1000.0));
+        families.add(new MetricFamily("vulcanapi_main_thread_executed_total", "Tasks run by the main thread queue.", MetricType.COUNTER)
+                .add(mainThread.getExecutedCount()));
+    }
+
+    private void collectCaches(List<MetricFamily> families) {
+        FortressSessionCache sessions = FortressSessionCache.getInstance();
+
+        families.add(new MetricFamily("vulcanapi_cache_requests_total", "Cache lookups by result.", MetricType.COUNTER)
+                .add(sessions.getHitCount(), "cache", "fortress_sessions", "result", "hit")
+                .add(sessions.getMissCount(), "cache", "fortress_sessions", "result", "miss"));
+        families.add(new MetricFamily("vulcanapi_cache_load_failures_total", "Cache loads that failed and were not cached.", MetricType.COUNTER)
+                .add(sessions.getLoadFailureCount(), "cache", "fortress_sessions"));
+        families.add(new MetricFamily("vulcanapi_cache_evictions_total", "Entries dropped because the cache was full.", MetricType.COUNTER)
+                .add(sessions.getEvictionCount(), "cache", "fortress_sessions"));
+        families.add(new MetricFamily("vulcanapi_cache_invalidations_total", "Entries dropped by an event.", MetricType.COUNTER)
+                .add(sessions.getInvalidationCount(), "cache", "fortress_sessions"));
+        families.add(new MetricFamily("vulcanapi_cache_size", "Entries currently cached.", MetricType.GAUGE)
+                .add(sessions.getSize(), "cache", "fortress_sessions"));
+        families.add(new MetricFamily("vulcanapi_fortress_alt_index_players", "Players in the in-memory alt index.", MetricType.GAUGE)
+                .add(FortressAltIndex.getInstance().getIndexedCount()));
+    }
+
+    private void collectWriters(List<MetricFamily> families) {
+        MetricFamily depth = new MetricFamily("vulcanapi_write_behind_queue_depth", "Records waiting to be written.", MetricType.GAUGE);
+        MetricFamily records = new MetricFamily("vulcanapi_write_behind_records_total", "Records by outcome.", MetricType.COUNTER);
+        MetricFamily batches = new MetricFamily("vulcanapi_write_behind_batches_total", "Batches committed.", MetricType.COUNTER);
+        MetricFamily lastBatch = new MetricFamily("vulcanapi_write_behind_last_batch_size", "Records in the last committed batch.", MetricType.GAUGE);
+        MetricFamily commitLatency = new MetricFamily("vulcanapi_write_behind_commit_seconds", "Time to commit one batch.", MetricType.SUMMARY);
+
+        for (WriteBehindWriter<?> writer : WriteBehindWriter.getWriters()) {
+            String name = writer.getName();
+            depth.add(writer.getQueueDepth(), "writer", name);
+            records.add(writer.getWrittenCount(), "writer", name, "outcome", "written")
+                    .add(writer.getFailedCount(), "writer", name, "outcome", "failed")
+                    .add(writer.getDroppedCount(), "writer", name, "outcome", "dropped")
+                    .add(writer.getDroppedLowValueCount(), "writer", name, "outcome", "dropped_low_value");
+            batches.add(writer.getBatchCount(), "writer", name);
+            lastBatch.add(writer.getLastBatchSize(), "writer", name);
+            addSummary(commitLatency, writer.getCommitLatency(), "writer", name);
+        }
+
+        families.add(depth);
+        families.add(records);
+        families.add(batches);
+        families.add(lastBatch);
+        families.add(commitLatency);
+    }
+
+    private void collectModules(List<MetricFamily> families) {
+        MetricFamily available = new MetricFamily("vulcanapi_module_available", "1 while a Vulcan module is loaded and its API is usable.", MetricType.GAUGE);
+        for (Map.Entry<String, BooleanSupplier> entry : modules.entrySet()) {
+            available.add(isAvailable(entry.getValue()) ? 1 : 0, "module", entry.getKey());
+        }
+        families.add(available);
+
+        for (Map.Entry<String, Supplier<MetricsProvider>> entry : providers.entrySet()) {
+            Map<String, Number> gauges = readProvider(entry.getValue());
+            for (Map.Entry<String, Number> gauge : gauges.entrySet()) {
+                if (gauge.getValue() == null) continue;
+
+                String name = "vulcanapi_" + entry.getKey() + "_" + PrometheusTextFormat.sanitizeName(gauge.getKey());
+                families.add(new MetricFamily(name, "Published by " + entry.getKey() + ".", MetricType.GAUGE)
+                        .add(gauge.getValue().doubleValue()));
+            }
+        }
+    }
+
+    // A module that is half unloaded must not break the whole scrape
+    private static boolean isAvailable(BooleanSupplier check) {
+        try {
+            return check.getAsBoolean();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static Map<String, Number> readProvider(Supplier<MetricsProvider> supplier) {
+        try {
+            MetricsProvider provider = supplier.get();
+            Map<String, Number> gauges = provider == null ? null : provider.getMetrics();
+            return gauges == null ? new LinkedHashMap<>() : gauges;
+        } catch (Throwable e) {
+            return new LinkedHashMap<>();
+        }
+    }
+
+    private static void addSummary(MetricFamily family, LatencySnapshot latency, String... labels) {
+        for (double quantile : QUANTILES) {
+            String[] withQuantile = new String[labels.length + 2];
+            System.arraycopy(labels, 0, withQuantile, 0, labels.length);
+            withQuantile[labels.length] = "quantile";
+            withQuantile[labels.length + 1] = Double.toString(quantile);
+            family.add(latency.getPercentileNanos(quantile * 100.0) / NANOS_PER_SECOND, withQuantile);
+        }
+        family.addSample(family.getName() + "_sum", latency.getTotalNanos() / NANOS_PER_SECOND, labels);
+        family.addSample(family.getName() + "_count", latency.getCount(), labels);
+    }
+}
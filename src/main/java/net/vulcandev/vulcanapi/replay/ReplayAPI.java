@@ -2,6 +2,7 @@ package net.vulcandev.vulcanapi.replay;
 
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.event.VulcanListener;
+import net.vulcandev.vulcanapi.metrics.MetricsProvider;
 import net.vulcandev.vulcanapi.replay.data.ReplayBufferView;
 import net.vulcandev.vulcanapi.replay.data.ReplayClipView;
 import net.vulcandev.vulcanapi.replay.data.ReplayMarkerRequest;
@@ -13,7 +14,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 /** Public, implementation-independent contract exposed by the VulcanReplay plugin. */
-public interface ReplayAPI {
+public interface ReplayAPI extends MetricsProvider {
 
     void registerListener(VulcanListener listener);
 
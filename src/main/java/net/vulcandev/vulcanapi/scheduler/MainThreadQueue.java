@@ -0,0 +1,155 @@
+package net.vulcandev.vulcanapi.scheduler;
+
+import lombok.AllArgsConstructor;
+import net.xantharddev.vulcanlib.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared hand-off from any thread to the main thread. Tasks are queued without locking and drained once per tick,
+ * oldest first, until the tick's time budget is spent; whatever is left waits for the next tick.
+ * VulcanAPI starts the drain when it enables, tasks submitted before that run on the first tick.
+ */
+public class MainThreadQueue {
+
+    private static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5L);
+
+    private final Queue<Entry> tasks = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue#size walks the whole queue, so the depth is counted separately
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder executed = new LongAdder();
+
+    private volatile Plugin plugin;
+    private volatile BukkitTask drainTask;
+    private volatile long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private volatile long lastLagNanos;
+    private volatile long lastDrainNanos;
+
+    private MainThreadQueue() {}
+
+    private static final class InstanceHolder {
+        static final MainThreadQueue instance = new MainThreadQueue();
+    }
+
+    public static MainThreadQueue getInstance() {
+        return InstanceHolder.instance;
+    }
+
+    /**
+     * Queues a task to run on the main thread. Safe to call from any thread, including the main thread,
+     * in which case the task runs on the next tick
+     * @param task the work to run
+     */
+    public void submit(Runnable task) {
+        tasks.add(new Entry(task, System.nanoTime()));
+        depth.incrementAndGet();
+    }
+
+    /**
+     * Starts draining the queue every tick
+     * @param plugin the plugin owning the drain task
+     * @param budgetMillis how long each tick may spend running queued tasks; at least one task runs per tick
+     */
+    public synchronized void start(Plugin plugin, long budgetMillis) {
+        stop();
+        this.plugin = plugin;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, budgetMillis));
+        this.drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+    }
+
+    /**
+     * Stops the drain task. Tasks still queued are kept and run once the queue is started again.
+     */
+    public synchronized void stop() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+    }
+
+    /**
+     * Drops every queued task without running it
+     * @return the number of tasks dropped
+     */
+    public int clear() {
+        int dropped = 0;
+        while (tasks.poll() != null) {
+            depth.decrementAndGet();
+            dropped++;
+        }
+        return dropped;
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * @return how long the oldest queued task has been waiting, or 0 if the queue is empty
+     */
+    public long getLagMillis() {
+        Entry oldest = tasks.peek();
+        return oldest == null ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.queuedAt);
+    }
+
+    /**
+     * @return how long the oldest task had been waiting when the last tick started draining
+     */
+    public long getLastLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLagNanos);
+    }
+
+    /**
+     * @return time spent running tasks during the last tick
+     */
+    public long getLastDrainNanos() {
+        return lastDrainNanos;
+    }
+
+    public long getBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(budgetNanos);
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    private void drain() {
+        long start = System.nanoTime();
+        Entry oldest = tasks.peek();
+        lastLagNanos = oldest == null ? 0L : start - oldest.queuedAt;
+        if (oldest == null) {
+            lastDrainNanos = 0L;
+            return;
+        }
+
+        long deadline = start + budgetNanos;
+        long now = start;
+        Entry entry;
+        while (now - deadline < 0 && (entry = tasks.poll()) != null) {
+            depth.decrementAndGet();
+            try {
+                entry.task.run();
+            } catch (Throwable e) {
+                Logger.log(plugin, "&cMain thread task failed: " + e);
+            }
+            executed.increment();
+            now = System.nanoTime();
+        }
+
+        lastDrainNanos = now - start;
+    }
+
+    @AllArgsConstructor
+    private static final class Entry {
+        final Runnable task;
+        final long queuedAt;
+    }
+}
@@ -36,6 +36,10 @@ public final class VulcanCratesAPI {
         return VulcanEventManager.getInstance().callEvent(event);
     }
 
+    public boolean hasListeners(Class<? extends VulcanEvent> eventClass) {
+        return VulcanEventManager.getInstance().hasListeners(eventClass);
+    }
+
     public static void initialize(Plugin plugin) {
         cleanup();
         if (plugin != null && "VulcanCrates".equals(plugin.getName())) {
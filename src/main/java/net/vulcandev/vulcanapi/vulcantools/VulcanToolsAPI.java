@@ -51,6 +51,10 @@ public class VulcanToolsAPI {
         return VulcanEventManager.getInstance().callEvent(event);
     }
 
+    public boolean hasListeners(Class<? extends VulcanEvent> eventClass) {
+        return VulcanEventManager.getInstance().hasListeners(eventClass);
+    }
+
     public static void initialize(org.bukkit.plugin.Plugin plugin) {
         cleanup();
         if (plugin instanceof IVulcanToolsPlugin) {
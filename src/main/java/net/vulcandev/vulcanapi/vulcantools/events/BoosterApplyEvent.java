@@ -17,8 +17,6 @@ public class BoosterApplyEvent extends VulcanEvent implements Cancellable {
     @Setter
     private int durationSeconds;
     private final Player appliedBy;
-    @Setter
-    private boolean cancelled;
 
     public BoosterApplyEvent(Player targetPlayer, String targetTeam, String boosterType, String targetCurrency, double multiplier, int durationSeconds, Player appliedBy) {
         this.targetPlayer = targetPlayer;
@@ -28,7 +26,6 @@ public class BoosterApplyEvent extends VulcanEvent implements Cancellable {
         this.multiplier = multiplier;
         this.durationSeconds = durationSeconds;
         this.appliedBy = appliedBy;
-        this.cancelled = false;
     }
 
     public boolean isPlayerBooster() {
@@ -2,24 +2,54 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 
 import lombok.Getter;
 import lombok.Setter;
-import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.EventPool;
+import net.vulcandev.vulcanapi.event.PooledEvent;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import org.bukkit.entity.Player;
 
 @Getter
-public class CurrencyGrindEvent extends VulcanEvent {
-    private final Player player;
-    private final String currency;
+public class CurrencyGrindEvent extends PooledEvent implements RoutableEvent {
+    private static final EventPool<CurrencyGrindEvent> POOL = new EventPool<>("CurrencyGrindEvent", 256, CurrencyGrindEvent::new);
+
+    private Player player;
+    private String currency;
     @Setter
     private long amount;
 
+    private CurrencyGrindEvent() {}
+
     public CurrencyGrindEvent(Player player, String currency, long amount) {
         this.player = player;
         this.currency = currency;
         this.amount = amount;
     }
 
+    /**
+     * Gets a reusable event from the pool. Fire it, then call {@link #release()}; listeners must not keep it
+     * past dispatch unless they {@link #retain()} it.
+     */
+    public static CurrencyGrindEvent obtain(Player player, String currency, long amount) {
+        CurrencyGrindEvent event = POOL.acquire();
+        event.player = player;
+        event.currency = currency;
+        event.amount = amount;
+        return event;
+    }
+
+    @Override
+    protected void clear() {
+        this.player = null;
+        this.currency = null;
+    }
+
     @Override
     public boolean isCancellable() {
         return false;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return playerRoutingKeys(player == null ? null : player.getUniqueId());
+    }
 }
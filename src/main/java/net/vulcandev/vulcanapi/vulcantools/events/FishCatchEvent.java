@@ -3,6 +3,8 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.wrapper.ToolModeWrapper;
 import net.vulcandev.vulcantools.enums.ToolMode;
@@ -11,22 +13,19 @@ import org.bukkit.event.player.PlayerFishEvent;
 import org.jetbrains.annotations.Nullable;
 
 @Getter
-public class FishCatchEvent extends VulcanEvent implements Cancellable {
+public class FishCatchEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final Player player;
     @Nullable
     private final PlayerFishEvent originalEvent;
     private final ToolModeWrapper toolMode;
     @Setter
     private int fishAmount;
-    @Setter
-    private boolean cancelled;
 
     public FishCatchEvent(Player player, @Nullable PlayerFishEvent originalEvent, ToolMode toolMode, int fishAmount) {
         this.player = player;
         this.originalEvent = originalEvent;
         this.toolMode = ToolModeWrapper.fromVulcanToolMode(toolMode);
         this.fishAmount = fishAmount;
-        this.cancelled = false;
     }
 
     public int getCaughtAmount() {
@@ -42,4 +41,9 @@ public class FishCatchEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUniqueId())};
+    }
 }
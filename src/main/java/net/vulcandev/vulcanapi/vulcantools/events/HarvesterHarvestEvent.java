@@ -3,7 +3,10 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
-import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.EventPool;
+import net.vulcandev.vulcanapi.event.PooledEvent;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.wrapper.ToolModeWrapper;
 import net.vulcandev.vulcantools.enums.ToolMode;
 import org.bukkit.Material;
@@ -14,29 +17,58 @@ import org.bukkit.event.block.BlockBreakEvent;
 import java.util.List;
 
 @Getter
-public class HarvesterHarvestEvent extends VulcanEvent implements Cancellable {
-    private final Player player;
-    private final List<Block> harvestedBlocks;
-    private final Material cropType;
-    private final BlockBreakEvent originalEvent;
-    private final ToolModeWrapper toolMode;
+public class HarvesterHarvestEvent extends PooledEvent implements Cancellable, RoutableEvent {
+    private static final EventPool<HarvesterHarvestEvent> POOL = new EventPool<>("HarvesterHarvestEvent", 256, HarvesterHarvestEvent::new);
+
+    private Player player;
+    private List<Block> harvestedBlocks;
+    private Material cropType;
+    private BlockBreakEvent originalEvent;
+    private ToolModeWrapper toolMode;
     @Setter
     private int amount;
-    @Setter
-    private boolean cancelled;
+
+    private HarvesterHarvestEvent() {}
 
     public HarvesterHarvestEvent(Player player, List<Block> harvestedBlocks, Material cropType, BlockBreakEvent originalEvent, ToolMode toolMode, int amount) {
+        set(player, harvestedBlocks, cropType, originalEvent, toolMode, amount);
+    }
+
+    /**
+     * Gets a reusable event from the pool. Fire it, then call {@link #release()}; listeners must not keep it
+     * past dispatch unless they {@link #retain()} it.
+     */
+    public static HarvesterHarvestEvent obtain(Player player, List<Block> harvestedBlocks, Material cropType, BlockBreakEvent originalEvent, ToolMode toolMode, int amount) {
+        HarvesterHarvestEvent event = POOL.acquire();
+        event.set(player, harvestedBlocks, cropType, originalEvent, toolMode, amount);
+        return event;
+    }
+
+    private void set(Player player, List<Block> harvestedBlocks, Material cropType, BlockBreakEvent originalEvent, ToolMode toolMode, int amount) {
         this.player = player;
         this.harvestedBlocks = harvestedBlocks;
         this.cropType = cropType;
         this.originalEvent = originalEvent;
         this.toolMode = ToolModeWrapper.fromVulcanToolMode(toolMode);
         this.amount = amount;
-        this.cancelled = false;
+    }
+
+    @Override
+    protected void clear() {
+        this.player = null;
+        this.harvestedBlocks = null;
+        this.cropType = null;
+        this.originalEvent = null;
+        this.toolMode = null;
     }
 
     @Override
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return playerRoutingKeys(player == null ? null : player.getUniqueId());
+    }
 }
@@ -3,7 +3,10 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
-import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.EventPool;
+import net.vulcandev.vulcanapi.event.PooledEvent;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.wrapper.ToolModeWrapper;
 import net.vulcandev.vulcantools.enums.ToolMode;
 import org.bukkit.Material;
@@ -14,25 +17,40 @@ import org.bukkit.event.block.BlockBreakEvent;
 import java.util.List;
 
 @Getter
-public class LumberHarvestEvent extends VulcanEvent implements Cancellable {
-    private final Player player;
-    private final List<Block> harvestedBlocks;
-    private final Material woodType;
-    private final BlockBreakEvent originalEvent;
-    private final ToolModeWrapper toolMode;
+public class LumberHarvestEvent extends PooledEvent implements Cancellable, RoutableEvent {
+    private static final EventPool<LumberHarvestEvent> POOL = new EventPool<>("LumberHarvestEvent", 256, LumberHarvestEvent::new);
+
+    private Player player;
+    private List<Block> harvestedBlocks;
+    private Material woodType;
+    private BlockBreakEvent originalEvent;
+    private ToolModeWrapper toolMode;
     @Setter
     private int amount;
-    @Setter
-    private boolean cancelled;
+
+    private LumberHarvestEvent() {}
 
     public LumberHarvestEvent(Player player, List<Block> harvestedBlocks, Material woodType, BlockBreakEvent originalEvent, ToolMode toolMode, int amount) {
+        set(player, harvestedBlocks, woodType, originalEvent, toolMode, amount);
+    }
+
+    /**
+     * Gets a reusable event from the pool. Fire it, then call {@link #release()}; listeners must not keep it
+     * past dispatch unless they {@link #retain()} it.
+     */
+    public static LumberHarvestEvent obtain(Player player, List<Block> harvestedBlocks, Material woodType, BlockBreakEvent originalEvent, ToolMode toolMode, int amount) {
+        LumberHarvestEvent event = POOL.acquire();
+        event.set(player, harvestedBlocks, woodType, originalEvent, toolMode, amount);
+        return event;
+    }
+
+    private void set(Player player, List<Block> harvestedBlocks, Material woodType, BlockBreakEvent originalEvent, ToolMode toolMode, int amount) {
         this.player = player;
         this.harvestedBlocks = harvestedBlocks;
         this.woodType = woodType;
         this.originalEvent = originalEvent;
         this.toolMode = ToolModeWrapper.fromVulcanToolMode(toolMode);
         this.amount = amount;
-        this.cancelled = false;
     }
 
     public int getHarvestedAmount() {
@@ -43,8 +61,22 @@ public class LumberHarvestEvent extends VulcanEvent implements Cancellable {
         return originalEvent;
     }
 
+    @Override
+    protected void clear() {
+        this.player = null;
+        this.harvestedBlocks = null;
+        this.woodType = null;
+        this.originalEvent = null;
+        this.toolMode = null;
+    }
+
     @Override
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return playerRoutingKeys(player == null ? null : player.getUniqueId());
+    }
 }
@@ -1,6 +1,8 @@
 package net.vulcandev.vulcanapi.vulcantools.events;
 
 import lombok.Getter;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.wrapper.ToolModeWrapper;
 import net.vulcandev.vulcantools.enums.ToolMode;
@@ -9,7 +11,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDeathEvent;
 
 @Getter
-public class MobKillEvent extends VulcanEvent {
+public class MobKillEvent extends VulcanEvent implements RoutableEvent {
     private final Player player;
     private final Entity killedEntity;
     private final EntityDeathEvent originalEvent;
@@ -28,4 +30,9 @@ public class MobKillEvent extends VulcanEvent {
     public boolean isCancellable() {
         return false;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUniqueId())};
+    }
 }
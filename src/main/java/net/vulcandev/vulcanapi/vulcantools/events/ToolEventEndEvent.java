@@ -1,6 +1,8 @@
 package net.vulcandev.vulcanapi.vulcantools.events;
 
 import lombok.Getter;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.wrapper.ToolTypeWrapper;
 import net.vulcandev.vulcantools.enums.ToolType;
@@ -10,7 +12,7 @@ import java.util.Map;
 import java.util.UUID;
 
 @Getter
-public class ToolEventEndEvent extends VulcanEvent {
+public class ToolEventEndEvent extends VulcanEvent implements RoutableEvent {
     private final ToolTypeWrapper toolType;
     private final LinkedHashMap<UUID, Integer> finalLeaderboard;
     private final int totalParticipants;
@@ -57,4 +59,9 @@ public class ToolEventEndEvent extends VulcanEvent {
     public boolean isCancellable() {
         return false;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.of(RoutingKey.TOOL, toolType == null ? null : toolType.getType())};
+    }
 }
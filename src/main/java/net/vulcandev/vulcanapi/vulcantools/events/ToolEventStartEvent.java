@@ -3,25 +3,24 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.wrapper.ToolTypeWrapper;
 import net.vulcandev.vulcantools.enums.ToolType;
 import org.bukkit.command.CommandSender;
 
 @Getter
-public class ToolEventStartEvent extends VulcanEvent implements Cancellable {
+public class ToolEventStartEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final ToolTypeWrapper toolType;
     @Setter
     private int durationSeconds;
     private final CommandSender startedBy;
-    @Setter
-    private boolean cancelled;
 
     public ToolEventStartEvent(ToolType toolType, int durationSeconds, CommandSender startedBy) {
         this.toolType = ToolTypeWrapper.fromVulcanToolType(toolType);
         this.durationSeconds = durationSeconds;
         this.startedBy = startedBy;
-        this.cancelled = false;
     }
 
     public double getDurationMinutes() {
@@ -36,4 +35,9 @@ public class ToolEventStartEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.of(RoutingKey.TOOL, toolType == null ? null : toolType.getType())};
+    }
 }
@@ -3,6 +3,8 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.wrapper.ToolModeWrapper;
 import net.vulcandev.vulcanapi.wrapper.ToolTypeWrapper;
@@ -12,15 +14,13 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 @Getter
-public class ToolModeChangeEvent extends VulcanEvent implements Cancellable {
+public class ToolModeChangeEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final Player player;
     private final ItemStack tool;
     private final ToolTypeWrapper toolType;
     private final ToolModeWrapper oldMode;
     @Setter
     private ToolModeWrapper newMode;
-    @Setter
-    private boolean cancelled;
 
     public ToolModeChangeEvent(Player player, ItemStack tool, ToolType toolType, ToolMode oldMode, ToolMode newMode) {
         this.player = player;
@@ -28,7 +28,6 @@ public class ToolModeChangeEvent extends VulcanEvent implements Cancellable {
         this.toolType = ToolTypeWrapper.fromVulcanToolType(toolType);
         this.oldMode = ToolModeWrapper.fromVulcanToolMode(oldMode);
         this.newMode = ToolModeWrapper.fromVulcanToolMode(newMode);
-        this.cancelled = false;
     }
 
     public boolean isModeChanging() {
@@ -39,4 +38,10 @@ public class ToolModeChangeEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUniqueId()),
+                RoutingKey.of(RoutingKey.TOOL, toolType == null ? null : toolType.getType())};
+    }
 }
@@ -3,6 +3,8 @@ package net.vulcandev.vulcanapi.vulcantools.events;
 import lombok.Getter;
 import lombok.Setter;
 import net.vulcandev.vulcanapi.event.Cancellable;
+import net.vulcandev.vulcanapi.event.RoutableEvent;
+import net.vulcandev.vulcanapi.event.RoutingKey;
 import net.vulcandev.vulcanapi.event.VulcanEvent;
 import net.vulcandev.vulcanapi.wrapper.ToolTypeWrapper;
 import net.vulcandev.vulcantools.enums.ToolType;
@@ -10,7 +12,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 @Getter
-public class ToolUpgradeEvent extends VulcanEvent implements Cancellable {
+public class ToolUpgradeEvent extends VulcanEvent implements Cancellable, RoutableEvent {
     private final Player player;
     private final ItemStack tool;
     private final ToolTypeWrapper toolType;
@@ -22,8 +24,6 @@ public class ToolUpgradeEvent extends VulcanEvent implements Cancellable {
     private long upgradeCost;
     @Setter
     private String currencyType;
-    @Setter
-    private boolean cancelled;
 
     public ToolUpgradeEvent(Player player, ItemStack tool, ToolType toolType, String enchantmentId, int oldLevel, int newLevel, long upgradeCost, String currencyType) {
         this.player = player;
@@ -34,7 +34,6 @@ public class ToolUpgradeEvent extends VulcanEvent implements Cancellable {
         this.newLevel = newLevel;
         this.upgradeCost = upgradeCost;
         this.currencyType = currencyType;
-        this.cancelled = false;
     }
 
     public String getEnchantment() {
@@ -53,4 +52,10 @@ public class ToolUpgradeEvent extends VulcanEvent implements Cancellable {
     public boolean isCancellable() {
         return true;
     }
+
+    @Override
+    public RoutingKey[] getRoutingKeys() {
+        return new RoutingKey[]{RoutingKey.player(player == null ? null : player.getUniqueId()),
+                RoutingKey.of(RoutingKey.TOOL, toolType == null ? null : toolType.getType())};
+    }
 }
@@ -16,30 +16,44 @@ public class ToolModeWrapper {
         DEPOSIT
     }
     
+    // Wrappers are immutable, so one per mode is shared instead of allocating one per event
+    private static final ToolModeWrapper[] BY_MODE = new ToolModeWrapper[Mode.values().length];
+
+    static {
+        for (Mode mode : Mode.values()) {
+            BY_MODE[mode.ordinal()] = new ToolModeWrapper(mode);
+        }
+    }
+
     private final Mode mode;
     
     public ToolModeWrapper(@NotNull Mode mode) {
         this.mode = mode;
     }
 
+    @NotNull
+    public static ToolModeWrapper of(@NotNull Mode mode) {
+        return BY_MODE[mode.ordinal()];
+    }
+
     @NotNull
     public ToolModeWrapper nextMode() {
         switch (mode) {
             case COLLECT:
-                return new ToolModeWrapper(Mode.SELL);
+                return of(Mode.SELL);
             case SELL:
-                return new ToolModeWrapper(Mode.DEPOSIT);
+                return of(Mode.DEPOSIT);
             case DEPOSIT:
-                return new ToolModeWrapper(Mode.COLLECT);
+                return of(Mode.COLLECT);
             default:
-                return new ToolModeWrapper(Mode.SELL);
+                return of(Mode.SELL);
         }
     }
 
     @Nullable
     public static ToolModeWrapper fromVulcanToolMode(@NotNull ToolMode toolMode) {
         try {
-            return new ToolModeWrapper(Mode.valueOf(toolMode.name()));
+            return of(Mode.valueOf(toolMode.name()));
         } catch (IllegalArgumentException e) {
             return null;
         }
@@ -0,0 +1,145 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JdbcBatchSinkTest {
+
+    private static final String INSERT = "INSERT INTO fortress_logs (id, check_name) VALUES (?, ?)";
+
+    private JdbcDataSource dataSource;
+    private Connection keepAlive;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+
+        // The in-memory database lives as long as one connection to it is open
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE fortress_logs (id INT PRIMARY KEY, check_name VARCHAR(32) NOT NULL)");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    public void writerStoresEveryRecordInBatches() throws Exception {
+        WriteBehindSettings settings = new WriteBehindSettings(1024, 50, 20L, 50L,
+                WriteBehindOverflowPolicy.BLOCK, 0.75, 0, 10L);
+
+        try (WriteBehindWriter<Row> writer = new WriteBehindWriter<>("test", sink(), settings, row -> false)) {
+            for (int i = 0; i < 500; i++) {
+                assertTrue(writer.offer(new Row(i, "Speed")));
+            }
+
+            assertTrue(writer.flush(10_000L));
+            assertEquals(500, writer.getWrittenCount());
+            assertEquals(0, writer.getFailedCount());
+            assertTrue(writer.getLargestBatchSize() <= 50);
+            assertTrue(writer.getBatchCount() >= 10);
+        }
+
+        assertEquals(500, countRows());
+    }
+
+    @Test
+    public void failedBatchIsRolledBack() throws Exception {
+        try {
+            sink().write(Arrays.asList(new Row(1, "Fly"), new Row(2, "Reach"), new Row(1, "Fly")));
+            fail("Duplicate key was accepted");
+        } catch (SQLException expected) {
+            // The whole batch is one transaction, so none of it is stored
+        }
+
+        assertEquals(0, countRows());
+
+        sink().write(Arrays.asList(new Row(1, "Fly"), new Row(2, "Reach")));
+        assertEquals(2, countRows());
+    }
+
+    @Test
+    public void writerRetriesFailedBatches() throws Exception {
+        WriteBehindSettings settings = new WriteBehindSettings(1024, 50, 20L, 50L,
+                WriteBehindOverflowPolicy.BLOCK, 0.75, 3, 10L);
+
+        // The first attempt fails on the primary key, and the conflicting row is gone before the retry
+        insert(7);
+        AtomicInteger attempts = new AtomicInteger();
+        JdbcBatchSink<Row> jdbc = sink();
+        BatchSink<Row> sink = batch -> {
+            try {
+                jdbc.write(batch);
+            } finally {
+                if (attempts.incrementAndGet() == 1) delete(7);
+            }
+        };
+
+        try (WriteBehindWriter<Row> writer = new WriteBehindWriter<>("test", sink, settings, row -> false)) {
+            writer.offer(new Row(6, "Timer"));
+            writer.offer(new Row(7, "Timer"));
+
+            assertTrue(writer.flush(10_000L));
+            assertEquals(2, writer.getWrittenCount());
+            assertEquals(0, writer.getFailedCount());
+        }
+
+        assertEquals(2, attempts.get());
+        assertEquals(2, countRows());
+    }
+
+    private JdbcBatchSink<Row> sink() {
+        return new JdbcBatchSink<>(dataSource, INSERT, (statement, row) -> {
+            statement.setInt(1, row.id);
+            statement.setString(2, row.checkName);
+        });
+    }
+
+    private void insert(int id) throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("INSERT INTO fortress_logs (id, check_name) VALUES (" + id + ", 'Existing')");
+        }
+    }
+
+    private void delete(int id) throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DELETE FROM fortress_logs WHERE id = " + id);
+        }
+    }
+
+    private int countRows() throws SQLException {
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM fortress_logs")) {
+            result.next();
+            return result.getInt(1);
+        }
+    }
+
+    private static final class Row {
+        private final int id;
+        private final String checkName;
+
+        private Row(int id, String checkName) {
+            this.id = id;
+            this.checkName = checkName;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package net.vulcandev.vulcanapi.fortress.persistence;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WriteBehindWriterTest {
+
+    private static final WriteBehindSettings SETTINGS = new WriteBehindSettings(1024, 50, 20L, 50L,
+            WriteBehindOverflowPolicy.BLOCK, 0.75, 1, 10L);
+
+    @Test
+    public void errorFromSinkDoesNotStopTheWriter() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> stored = new CopyOnWriteArrayList<>();
+        BatchSink<Integer> sink = batch -> {
+            if (attempts.incrementAndGet() == 1) throw new AssertionError("sink bug");
+            stored.addAll(batch);
+        };
+
+        try (WriteBehindWriter<Integer> writer = new WriteBehindWriter<>("test", sink, SETTINGS, record -> false)) {
+            writer.offer(1);
+            assertTrue(writer.flush(10_000L));
+
+            writer.offer(2);
+            assertTrue(writer.flush(10_000L));
+            assertEquals(2, writer.getWrittenCount());
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(2, stored.size());
+    }
+}
@@ -0,0 +1,105 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsHttpServerTest {
+
+    private static MetricsHttpServer server;
+    private static EventSubscription subscription;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        server = new MetricsHttpServer("127.0.0.1", 0);
+        server.start();
+
+        VulcanEventManager manager = VulcanEventManager.getInstance();
+        subscription = manager.subscribe(null, ScrapeTestEvent.class, EventPriority.NORMAL, false, event -> {});
+        for (int i = 0; i < 3; i++) {
+            manager.callEvent(new ScrapeTestEvent());
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        subscription.close();
+        server.stop();
+    }
+
+    @Test
+    public void scrapeServesPrometheusText() throws IOException {
+        HttpURLConnection connection = open("/metrics", "GET");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(PrometheusTextFormat.CONTENT_TYPE, connection.getContentType());
+
+        String body = read(connection.getInputStream());
+        assertTrue(body.contains("# TYPE vulcanapi_events_dispatched_total counter\n"));
+        assertTrue(body.contains("vulcanapi_events_dispatched_total{event_type=\"ScrapeTestEvent\"} 3\n"));
+        assertTrue(body.contains("vulcanapi_module_available{module=\"fortress\"} 0\n"));
+    }
+
+    @Test
+    public void headHasNoBody() throws IOException {
+        HttpURLConnection connection = open("/metrics", "HEAD");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(PrometheusTextFormat.CONTENT_TYPE, connection.getContentType());
+        assertEquals("", read(connection.getInputStream()));
+    }
+
+    @Test
+    public void otherPathsAreNotFound() throws IOException {
+        assertEquals(404, open("/metrics/extra", "GET").getResponseCode());
+        assertEquals(404, open("/", "GET").getResponseCode());
+    }
+
+    @Test
+    public void otherMethodsAreNotAllowed() throws IOException {
+        HttpURLConnection connection = open("/metrics", "POST");
+
+        assertEquals(405, connection.getResponseCode());
+        assertEquals("GET, HEAD", connection.getHeaderField("Allow"));
+    }
+
+    private static HttpURLConnection open(String path, String method) throws IOException {
+        URL url = new URL("http", "127.0.0.1", server.getAddress().getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public static class ScrapeTestEvent extends VulcanEvent {
+        @Override
+        public boolean isCancellable() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package net.vulcandev.vulcanapi.metrics;
+
+import net.vulcandev.vulcanapi.event.EventPriority;
+import net.vulcandev.vulcanapi.event.EventSubscription;
+import net.vulcandev.vulcanapi.event.VulcanEvent;
+import net.vulcandev.vulcanapi.event.VulcanEventManager;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VulcanMetricsTest {
+
+    @Test
+    public void handlersSharingLabelsAreOneSeries() {
+        VulcanEventManager manager = VulcanEventManager.getInstance();
+        Consumer<DuplicateTestEvent> handler = event -> {};
+        EventSubscription first = manager.subscribe(null, DuplicateTestEvent.class, EventPriority.NORMAL, false, handler);
+        EventSubscription second = manager.subscribe(null, DuplicateTestEvent.class, EventPriority.NORMAL, false, handler);
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                manager.callEvent(new DuplicateTestEvent());
+            }
+
+            List<MetricSample> counts = new ArrayList<>();
+            Set<String> series = new HashSet<>();
+            for (MetricFamily family : VulcanMetrics.getInstance().collect()) {
+                for (MetricSample sample : family.getSamples()) {
+                    assertTrue("Duplicate series " + sample.getName() + sample.getLabels(),
+                            series.add(sample.getName() + sample.getLabels()));
+                    if (sample.getName().equals("vulcanapi_handler_seconds_count")
+                            && "DuplicateTestEvent".equals(sample.getLabels().get("event_type"))) {
+                        counts.add(sample);
+                    }
+                }
+            }
+
+            // Both subscriptions are summed, and the lambda is labelled without its per-run numbering
+            assertEquals(1, counts.size());
+            assertEquals(10.0, counts.get(0).getValue(), 0.0);
+            String name = counts.get(0).getLabels().get("handler");
+            assertTrue(name, name.endsWith("$$Lambda#subscribe"));
+            assertFalse(name, name.contains("/"));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    public static class DuplicateTestEvent extends VulcanEvent {
+        @Override
+        public boolean isCancellable() {
+            return false;
+        }
+    }
+}